@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Linear model of the net positions of balance computation areas around a base state:
+ * net position of area j = base net position of area j + sum over areas i of sensitivity(j, i) * offset of area i,
+ * where the offset of an area is the power scaled by its scalable.
+ * <p>
+ *     As areas covering a closed network have net positions summing to zero, the sensitivity matrix may be singular.
+ *     Offsets are thus computed as a least squares solution, with a small regularization selecting the minimum norm one.
+ *     The factorization is done once, so that offsets of many scenarios can be computed cheaply.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class AreaNetPositionSensitivities {
+
+    private static final double REGULARIZATION = 1e-9;
+
+    private final List<BalanceComputationArea> areas;
+
+    private final double[] baseNetPositions;
+
+    /**
+     * sensitivities[j][i]: variation of the net position of area j for a unit offset of area i
+     */
+    private final double[][] sensitivities;
+
+    /**
+     * Cholesky factor of the regularized normal equations matrix
+     */
+    private final double[][] choleskyFactor;
+
+    public AreaNetPositionSensitivities(List<BalanceComputationArea> areas, double[] baseNetPositions, double[][] sensitivities) {
+        this.areas = Objects.requireNonNull(areas);
+        this.baseNetPositions = Objects.requireNonNull(baseNetPositions).clone();
+        this.sensitivities = new double[areas.size()][];
+        if (baseNetPositions.length != areas.size() || sensitivities.length != areas.size()) {
+            throw new IllegalArgumentException("Base net positions and sensitivities must be given for each of the " + areas.size() + " areas");
+        }
+        for (int j = 0; j < areas.size(); j++) {
+            if (sensitivities[j].length != areas.size()) {
+                throw new IllegalArgumentException("Sensitivity matrix must be square");
+            }
+            this.sensitivities[j] = sensitivities[j].clone();
+        }
+        this.choleskyFactor = factorize();
+    }
+
+    private AreaNetPositionSensitivities(AreaNetPositionSensitivities other, double[] baseNetPositions) {
+        this.areas = other.areas;
+        this.baseNetPositions = baseNetPositions.clone();
+        this.sensitivities = other.sensitivities;
+        this.choleskyFactor = other.choleskyFactor;
+    }
+
+    /**
+     * @return Sensitivities sharing this sensitivity matrix and its factorization, around other base net positions,
+     * typically the ones of another state of the network with the same topology
+     */
+    public AreaNetPositionSensitivities withBaseNetPositions(double[] baseNetPositions) {
+        checkSize(baseNetPositions);
+        return new AreaNetPositionSensitivities(this, baseNetPositions);
+    }
+
+    public List<BalanceComputationArea> getAreas() {
+        return areas;
+    }
+
+    public double[] getBaseNetPositions() {
+        return baseNetPositions.clone();
+    }
+
+    /**
+     * @return The variation of the net position of the area at index netPositionAreaIndex for a unit offset of the area
+     * at index scaledAreaIndex
+     */
+    public double getSensitivity(int netPositionAreaIndex, int scaledAreaIndex) {
+        return sensitivities[netPositionAreaIndex][scaledAreaIndex];
+    }
+
+    /**
+     * @return The offsets to apply to the areas to reach the given target net positions, indexed as the areas
+     */
+    public double[] computeOffsets(double[] targetNetPositions) {
+        checkSize(targetNetPositions);
+        int size = areas.size();
+        // Right hand side of the normal equations: St * (targets - base)
+        double[] rhs = new double[size];
+        for (int j = 0; j < size; j++) {
+            double mismatch = targetNetPositions[j] - baseNetPositions[j];
+            for (int i = 0; i < size; i++) {
+                rhs[i] += sensitivities[j][i] * mismatch;
+            }
+        }
+        // Forward then backward substitution with the Cholesky factor
+        for (int i = 0; i < size; i++) {
+            for (int k = 0; k < i; k++) {
+                rhs[i] -= choleskyFactor[i][k] * rhs[k];
+            }
+            rhs[i] /= choleskyFactor[i][i];
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            for (int k = i + 1; k < size; k++) {
+                rhs[i] -= choleskyFactor[k][i] * rhs[k];
+            }
+            rhs[i] /= choleskyFactor[i][i];
+        }
+        return rhs;
+    }
+
+    /**
+     * @return The net positions predicted by the linear model for the given offsets, indexed as the areas
+     */
+    public double[] predictNetPositions(double[] offsets) {
+        checkSize(offsets);
+        double[] netPositions = baseNetPositions.clone();
+        for (int j = 0; j < areas.size(); j++) {
+            for (int i = 0; i < areas.size(); i++) {
+                netPositions[j] += sensitivities[j][i] * offsets[i];
+            }
+        }
+        return netPositions;
+    }
+
+    private void checkSize(double[] values) {
+        if (Objects.requireNonNull(values).length != areas.size()) {
+            throw new IllegalArgumentException("A value must be given for each of the " + areas.size() + " areas");
+        }
+    }
+
+    private double[][] factorize() {
+        int size = areas.size();
+        double[][] normalMatrix = new double[size][size];
+        double trace = 0;
+        for (int i = 0; i < size; i++) {
+            for (int k = 0; k <= i; k++) {
+                double sum = 0;
+                for (int j = 0; j < size; j++) {
+                    sum += sensitivities[j][i] * sensitivities[j][k];
+                }
+                normalMatrix[i][k] = sum;
+            }
+            trace += normalMatrix[i][i];
+        }
+        double regularization = REGULARIZATION * Math.max(1, trace / Math.max(1, size));
+
+        double[][] factor = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int k = 0; k <= i; k++) {
+                double sum = normalMatrix[i][k] + (i == k ? regularization : 0);
+                for (int l = 0; l < k; l++) {
+                    sum -= factor[i][l] * factor[k][l];
+                }
+                if (i == k) {
+                    if (sum <= 0) {
+                        throw new PowsyblException("Area net position sensitivity matrix cannot be factorized");
+                    }
+                    factor[i][i] = Math.sqrt(sum);
+                } else {
+                    factor[i][k] = sum / factor[k][k];
+                }
+            }
+        }
+        return factor;
+    }
+}
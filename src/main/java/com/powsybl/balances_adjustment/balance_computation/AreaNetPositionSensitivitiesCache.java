@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of the area net position sensitivities of a network, keyed by topology.
+ * <p>
+ *     In DC approximation, sensitivities only depend on the topology of the network: the states of the switches and
+ *     the connection of the terminals of the connectables. Runs on states sharing the same topology (e.g. hourly
+ *     injections over a day) thus pay the sensitivity computation once, and only a DC loadflow is run afterwards to
+ *     update base net positions. A topology change leads to another cache entry, the least recently used entries being
+ *     evicted once the maximum size is reached.
+ * </p>
+ * <p>
+ *     The cache is bound to the screening areas and parameters it is created with. It listens to the network to be
+ *     invalidated when elements are added to or removed from the network, and can be invalidated explicitly after any
+ *     other change the topology fingerprint does not cover (e.g. line characteristics). The cache must be closed once
+ *     no longer used, so that the network does not keep it alive.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class AreaNetPositionSensitivitiesCache implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_SIZE = 16;
+
+    private final LinearBalanceScreening screening;
+
+    private final BalanceComputationParameters parameters;
+
+    private final Network network;
+
+    private final Map<BitSet, AreaNetPositionSensitivities> sensitivitiesByTopology;
+
+    /**
+     * Invalidates the cache when an element is created or removed, as the fingerprint of the topology then no longer
+     * refers to the same elements
+     */
+    private final NetworkListener invalidationListener = new DefaultNetworkListener() {
+        @Override
+        public void onCreation(Identifiable identifiable) {
+            invalidate();
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            invalidate();
+        }
+    };
+
+    public AreaNetPositionSensitivitiesCache(LinearBalanceScreening screening, BalanceComputationParameters parameters, Network network) {
+        this(screening, parameters, network, DEFAULT_MAX_SIZE);
+    }
+
+    public AreaNetPositionSensitivitiesCache(LinearBalanceScreening screening, BalanceComputationParameters parameters, Network network,
+                                             int maxSize) {
+        this.screening = Objects.requireNonNull(screening);
+        this.parameters = Objects.requireNonNull(parameters);
+        this.network = Objects.requireNonNull(network);
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be strictly positive");
+        }
+        this.sensitivitiesByTopology = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BitSet, AreaNetPositionSensitivities> eldest) {
+                return size() > maxSize;
+            }
+        };
+        network.addListener(invalidationListener);
+    }
+
+    /**
+     * @return The sensitivities around the state of the given variant, computed from scratch only if no sensitivities
+     * of the same topology are cached
+     */
+    public synchronized AreaNetPositionSensitivities get(String workingStateId) {
+        Objects.requireNonNull(workingStateId);
+
+        BitSet fingerprint = computeTopologyFingerprint(workingStateId);
+        AreaNetPositionSensitivities cached = sensitivitiesByTopology.get(fingerprint);
+        if (cached != null) {
+            return cached.withBaseNetPositions(screening.computeBaseNetPositions(network, workingStateId, parameters));
+        }
+        AreaNetPositionSensitivities sensitivities = screening.computeSensitivities(network, workingStateId, parameters);
+        sensitivitiesByTopology.put(fingerprint, sensitivities);
+        return sensitivities;
+    }
+
+    public synchronized int size() {
+        return sensitivitiesByTopology.size();
+    }
+
+    public synchronized void invalidate() {
+        sensitivitiesByTopology.clear();
+    }
+
+    @Override
+    public void close() {
+        network.removeListener(invalidationListener);
+    }
+
+    private BitSet computeTopologyFingerprint(String workingStateId) {
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        try {
+            variantManager.setWorkingVariant(workingStateId);
+            BitSet fingerprint = new BitSet();
+            int index = 0;
+            for (Switch sw : network.getSwitches()) {
+                fingerprint.set(index++, sw.isOpen());
+            }
+            for (Connectable<?> connectable : network.getConnectables()) {
+                for (Terminal terminal : connectable.getTerminals()) {
+                    fingerprint.set(index++, terminal.isConnected());
+                }
+            }
+            return fingerprint;
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+        }
+    }
+}
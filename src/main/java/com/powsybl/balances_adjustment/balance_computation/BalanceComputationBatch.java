@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.loadflow.LoadFlow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the balance computations of many independent scenarios of a network.
+ * <p>
+ *     Scenarios are run concurrently on a bounded number of workers, so that while the loadflow of a scenario is
+ *     running, other scenarios are scaling or measuring their net positions. The scratch variants of the runs are
+ *     taken from a single {@link VariantPool}, and the number of runs in progress is bounded so that no more than
+ *     {@link #setMaxScratchVariants(int) a given number} of scratch variants are alive at once. The pool is warmed up
+ *     with the scratch variants of all the workers before any run starts, as creating or removing a variant pauses
+ *     the other workers.
+ *     Concurrent runs require variant multi-thread access to be allowed on the network, else scenarios are run
+ *     one after the other. Scenarios must work on distinct variants, and must not share their scalables when run
+ *     concurrently.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BalanceComputationBatch {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BalanceComputationBatch.class);
+
+    /**
+     * Number of scratch variants used by a single run: a copy of the initial state and a working copy
+     */
+    private static final int SCRATCH_VARIANTS_PER_RUN = 2;
+
+    public static final int DEFAULT_CONCURRENCY = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_MAX_SCRATCH_VARIANTS = SCRATCH_VARIANTS_PER_RUN * DEFAULT_CONCURRENCY;
+
+    /**
+     * Areas to balance on a variant of the network
+     */
+    public static final class Scenario {
+
+        private final List<BalanceComputationArea> areas;
+
+        private final String workingStateId;
+
+        public Scenario(List<BalanceComputationArea> areas, String workingStateId) {
+            this.areas = Objects.requireNonNull(areas);
+            this.workingStateId = Objects.requireNonNull(workingStateId);
+        }
+
+        public List<BalanceComputationArea> getAreas() {
+            return areas;
+        }
+
+        public String getWorkingStateId() {
+            return workingStateId;
+        }
+    }
+
+    private final ComputationManager computationManager;
+    private final LoadFlow.Runner loadFlowRunner;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private int maxScratchVariants = DEFAULT_MAX_SCRATCH_VARIANTS;
+
+    public BalanceComputationBatch(ComputationManager computationManager, LoadFlow.Runner loadFlowRunner) {
+        this.computationManager = Objects.requireNonNull(computationManager);
+        this.loadFlowRunner = Objects.requireNonNull(loadFlowRunner);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @param concurrency The maximum number of scenarios run at once
+     */
+    public BalanceComputationBatch setConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new PowsyblException("Concurrency must be at least 1");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int getMaxScratchVariants() {
+        return maxScratchVariants;
+    }
+
+    /**
+     * @param maxScratchVariants The maximum number of scratch variants alive at once, each run using
+     *                           {@value #SCRATCH_VARIANTS_PER_RUN} of them
+     */
+    public BalanceComputationBatch setMaxScratchVariants(int maxScratchVariants) {
+        if (maxScratchVariants < SCRATCH_VARIANTS_PER_RUN) {
+            throw new PowsyblException("At least " + SCRATCH_VARIANTS_PER_RUN + " scratch variants are needed by a run");
+        }
+        this.maxScratchVariants = maxScratchVariants;
+        return this;
+    }
+
+    /**
+     * Number of scenarios actually run at once on the given network
+     */
+    int getWorkerCount(Network network) {
+        int workerCount = Math.min(concurrency, maxScratchVariants / SCRATCH_VARIANTS_PER_RUN);
+        if (workerCount > 1 && !network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+            LOGGER.warn("Variant multi-thread access is not allowed on network {}: scenarios are run one after the other", network.getId());
+            return 1;
+        }
+        return workerCount;
+    }
+
+    /**
+     * Run the balance computations of the given scenarios. Each scenario only modifies its own working variant, if
+     * its computation succeeds.
+     *
+     * @return The results, in the order of the scenarios
+     */
+    public CompletableFuture<List<BalanceComputationResult>> run(Network network, List<Scenario> scenarios, BalanceComputationParameters parameters) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(scenarios);
+        Objects.requireNonNull(parameters);
+        checkDistinctWorkingStates(scenarios);
+
+        int workerCount = getWorkerCount(network);
+        VariantPool variantPool = new VariantPool(network);
+        variantPool.warmUp(SCRATCH_VARIANTS_PER_RUN * workerCount);
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        List<CompletableFuture<BalanceComputationResult>> futures = scenarios.stream()
+                .map(scenario -> CompletableFuture.supplyAsync(() -> run(network, scenario, parameters, variantPool), executor))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, throwable) -> {
+                    executor.shutdown();
+                    variantPool.close();
+                })
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Run the balance computations of the given scenarios with a bounded memory footprint, for batches too large to
+     * keep all their scenarios, variants and results alive at once.
+     * <p>
+     *     One scenario per worker is kept in progress: as soon as a computation completes, its result is given to the
+     *     sink and the next scenario is pulled from the iterator, so that a slow scenario does not hold back the
+     *     results of the other ones. Results are thus given to the sink in the order of completion, with the index
+     *     of their scenario. The iterator and the sink are only called by the calling thread, under the write lock of
+     *     the variants of the network, i.e. between the steps of the computations in progress: the iterator may create
+     *     the working variants of the scenarios and the sink may remove them. Nothing is retained by the batch once
+     *     the sink returns.
+     *     At most {@link #getConcurrency()} scenarios and {@link #getMaxScratchVariants()} scratch variants are alive
+     *     at once. This method blocks until all the scenarios are run. If a computation, the iterator or the sink
+     *     throws, no more scenarios are pulled, the computations in progress are completed and their results are
+     *     still given to the sink, unless the sink threw, then the first exception is thrown.
+     * </p>
+     *
+     * @return The number of scenarios run
+     */
+    public int run(Network network, Iterator<Scenario> scenarios, BalanceComputationParameters parameters, BalanceComputationResultSink sink) {
+        return run(network, scenarios, parameters, sink, scenarioIndex -> false);
+    }
+
+    /**
+     * Run the balance computations of the given scenarios with a bounded memory footprint, see
+     * {@link #run(Network, Iterator, BalanceComputationParameters, BalanceComputationResultSink)}, skipping the
+     * scenarios already completed, e.g. by a previous batch that was interrupted. Completed scenarios are still pulled
+     * from the iterator, so that the indexes of the scenarios do not change, but they are neither run nor given to
+     * the sink.
+     *
+     * @param completed Predicate on the index of a scenario, true if the scenario is already completed
+     * @return The number of scenarios run
+     */
+    public int run(Network network, Iterator<Scenario> scenarios, BalanceComputationParameters parameters, BalanceComputationResultSink sink,
+                   IntPredicate completed) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(scenarios);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(sink);
+        Objects.requireNonNull(completed);
+
+        int workerCount = getWorkerCount(network);
+        Lock writeLock = NetworkVariantLock.of(network).writeLock();
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        CompletionService<ScenarioRun> completionService = new ExecutorCompletionService<>(executor);
+        int scenarioCount = 0;
+        int runCount = 0;
+        int runningCount = 0;
+        RuntimeException failure = null;
+        boolean sinkFailed = false;
+        try (VariantPool variantPool = new VariantPool(network)) {
+            variantPool.warmUp(SCRATCH_VARIANTS_PER_RUN * workerCount);
+            while (true) {
+                // Pull scenarios until all the workers are busy
+                while (failure == null && runningCount < workerCount) {
+                    Scenario scenario;
+                    writeLock.lock();
+                    try {
+                        scenario = scenarios.hasNext() ? scenarios.next() : null;
+                    } catch (RuntimeException e) {
+                        failure = e;
+                        break;
+                    } finally {
+                        writeLock.unlock();
+                    }
+                    if (scenario == null) {
+                        break;
+                    }
+                    int scenarioIndex = scenarioCount++;
+                    if (!completed.test(scenarioIndex)) {
+                        completionService.submit(() -> runScenario(scenarioIndex, scenario, network, parameters, variantPool));
+                        runningCount++;
+                        runCount++;
+                    }
+                }
+                if (runningCount == 0) {
+                    break;
+                }
+
+                // Give the result of the next completed computation to the sink
+                ScenarioRun run = take(completionService);
+                runningCount--;
+                if (run.failure != null) {
+                    if (failure == null) {
+                        failure = run.failure;
+                    }
+                } else if (!sinkFailed) {
+                    writeLock.lock();
+                    try {
+                        sink.accept(run.scenarioIndex, run.scenario, run.result);
+                    } catch (RuntimeException e) {
+                        sinkFailed = true;
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    } finally {
+                        writeLock.unlock();
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return runCount;
+    }
+
+    private static ScenarioRun take(CompletionService<ScenarioRun> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Balance computation batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    private ScenarioRun runScenario(int scenarioIndex, Scenario scenario, Network network, BalanceComputationParameters parameters, VariantPool variantPool) {
+        try {
+            return new ScenarioRun(scenarioIndex, scenario, run(network, scenario, parameters, variantPool), null);
+        } catch (RuntimeException e) {
+            return new ScenarioRun(scenarioIndex, scenario, null, e);
+        }
+    }
+
+    /**
+     * Completed balance computation of a scenario, with its result or its failure
+     */
+    private static final class ScenarioRun {
+
+        private final int scenarioIndex;
+        private final Scenario scenario;
+        private final BalanceComputationResult result;
+        private final RuntimeException failure;
+
+        private ScenarioRun(int scenarioIndex, Scenario scenario, BalanceComputationResult result, RuntimeException failure) {
+            this.scenarioIndex = scenarioIndex;
+            this.scenario = scenario;
+            this.result = result;
+            this.failure = failure;
+        }
+    }
+
+    private BalanceComputationResult run(Network network, Scenario scenario, BalanceComputationParameters parameters, VariantPool variantPool) {
+        VariantManager variantManager = network.getVariantManager();
+        // With variant multi-thread access, workers have no working variant until one is set. Without it, the working
+        // variant is the one of the caller, which is restored by the computation at the end of the run.
+        if (variantManager.isVariantMultiThreadAccessAllowed()) {
+            Lock readLock = NetworkVariantLock.of(network).readLock();
+            readLock.lock();
+            try {
+                variantManager.setWorkingVariant(scenario.getWorkingStateId());
+            } finally {
+                readLock.unlock();
+            }
+        }
+        return new BalanceComputationImpl(scenario.getAreas(), computationManager, loadFlowRunner, variantPool)
+                .run(network, scenario.getWorkingStateId(), parameters)
+                .join();
+    }
+
+    private static void checkDistinctWorkingStates(List<Scenario> scenarios) {
+        Set<String> workingStateIds = new HashSet<>();
+        for (Scenario scenario : scenarios) {
+            if (!workingStateIds.add(scenario.getWorkingStateId())) {
+                throw new PowsyblException("Several scenarios work on variant " + scenario.getWorkingStateId());
+            }
+        }
+    }
+}
@@ -6,10 +6,16 @@
  */
 package com.powsybl.balances_adjustment.balance_computation;
 
+import com.powsybl.balances_adjustment.util.BorderElement;
 import com.powsybl.balances_adjustment.util.NetworkArea;
+import com.powsybl.balances_adjustment.util.NetworkAreaUtil;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Boundary;
+import com.powsybl.iidm.network.Injection;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowResult;
 import org.slf4j.Logger;
@@ -17,7 +23,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 /**
@@ -40,19 +48,43 @@ public class BalanceComputationImpl implements BalanceComputation {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BalanceComputationImpl.class);
 
+    private static final double MIN_RELAXATION_FACTOR = 0.25;
+    private static final double MAX_RELAXATION_FACTOR = 1.5;
+
     private final List<BalanceComputationArea> areas;
 
     private final ComputationManager computationManager;
     private final LoadFlow.Runner loadFlowRunner;
 
+    private final VariantPool variantPool;
+
     public BalanceComputationImpl(List<BalanceComputationArea> areas, ComputationManager computationManager, LoadFlow.Runner loadFlowRunner) {
+        this(areas, computationManager, loadFlowRunner, null);
+    }
+
+    /**
+     * @param variantPool Pool providing the temporary variants of the runs, or null to create and remove them at each run.
+     *                    Runs must then be done on the network of the pool.
+     */
+    public BalanceComputationImpl(List<BalanceComputationArea> areas, ComputationManager computationManager, LoadFlow.Runner loadFlowRunner,
+                                  VariantPool variantPool) {
         this.areas = Objects.requireNonNull(areas);
         this.computationManager = Objects.requireNonNull(computationManager);
         this.loadFlowRunner = Objects.requireNonNull(loadFlowRunner);
+        this.variantPool = variantPool;
     }
 
     /**
-     * Run balances adjustment computation in several iterations
+     * Run balances adjustment computation in several iterations.
+     * <p>
+     * The computation works on temporary variants whose names are unique, and only modifies the variant
+     * {@code workingStateId} once it succeeds, so that a failed computation leaves the network unchanged.
+     * Computations can be run concurrently on the same network, on distinct or identical variants, if variant
+     * multi-thread access is allowed: a computation works on a private copy of the initial state and on a working copy,
+     * and creating or removing these copies waits for the steps of the other computations in progress on the network
+     * to end. Variants must not be created or removed by other means while computations are running.
+     * If a variant pool is given, temporary variants are taken from it and are not removed at the end of the run.
+     * </p>
      */
     @Override
     public CompletableFuture<BalanceComputationResult> run(Network network, String workingStateId, BalanceComputationParameters parameters) {
@@ -60,66 +92,175 @@ public class BalanceComputationImpl implements BalanceComputation {
         Objects.requireNonNull(workingStateId);
         Objects.requireNonNull(parameters);
 
+        boolean parallelScaling = parameters.isParallelScaling();
+        if (parallelScaling) {
+            checkNoSharedInjection(network);
+            if (!network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+                LOGGER.warn("Variant multi-thread access is not allowed on network {}: areas are scaled one after the other", network.getId());
+                parallelScaling = false;
+            }
+        }
+
+        if (variantPool != null && variantPool.getNetwork() != network) {
+            throw new PowsyblException("Network " + network.getId() + " is not the network of the variant pool");
+        }
+        VariantPool pool = variantPool != null ? variantPool : new VariantPool(network);
+
+        VariantManager variantManager = network.getVariantManager();
+        Lock readLock = NetworkVariantLock.of(network).readLock();
+        String initialVariantId;
+        readLock.lock();
+        try {
+            initialVariantId = variantManager.getWorkingVariantId();
+        } finally {
+            readLock.unlock();
+        }
+        long startTime = System.currentTimeMillis();
+        // Private copy of the initial state, so that resetting the working copy does not depend on the base variant
+        // that could be modified by another computation in the meantime
+        String initialStateCopyId = pool.acquire(workingStateId);
+        String workingVariantCopyId = pool.acquire(workingStateId);
+        // Scaling workers are dedicated to the run, so that no thread outlives it with a scratch variant as working variant
+        ExecutorService scalingExecutor = parallelScaling ? Executors.newFixedThreadPool(areas.size()) : null;
+
+        try {
+            BalanceComputationResult result = runIterations(network, initialStateCopyId, workingVariantCopyId, parameters, scalingExecutor, readLock);
+            if (result.getStatus() == BalanceComputationResult.Status.SUCCESS) {
+                readLock.lock();
+                try {
+                    synchronized (variantManager) {
+                        variantManager.cloneVariant(workingVariantCopyId, workingStateId, true);
+                    }
+                } finally {
+                    readLock.unlock();
+                }
+            }
+            return CompletableFuture.completedFuture(result.withComputationTime(System.currentTimeMillis() - startTime));
+        } finally {
+            if (scalingExecutor != null) {
+                scalingExecutor.shutdown();
+            }
+            pool.release(workingVariantCopyId);
+            pool.release(initialStateCopyId);
+            if (pool != variantPool) {
+                pool.close();
+            }
+            readLock.lock();
+            try {
+                variantManager.setWorkingVariant(initialVariantId);
+            } finally {
+                readLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Each step of the computation holds the read lock of the variants of the network, so that variants are only
+     * created or removed between steps.
+     *
+     * @param scalingExecutor Executor scaling the areas concurrently, or null to scale them one after the other
+     */
+    private BalanceComputationResult runIterations(Network network, String initialStateCopyId, String workingVariantCopyId, BalanceComputationParameters parameters,
+                                                   ExecutorService scalingExecutor, Lock readLock) {
         BalanceComputationResult result;
         int iterationCounter = 0;
 
-        String initialVariantId = network.getVariantManager().getWorkingVariantId();
-        String workingVariantCopyId = workingStateId + " COPY";
-        network.getVariantManager().cloneVariant(workingStateId, workingVariantCopyId);
-        network.getVariantManager().setWorkingVariant(workingVariantCopyId);
+        // Areas are identified by their index in the list of areas during the computation
+        double[] balanceOffsets = new double[areas.size()];
+        double relaxationFactor = 1;
+        double previousMismatchesNorm = Double.NaN;
 
-        Map<BalanceComputationArea, Double> balanceOffsets = new HashMap<>();
+        List<NetworkArea> networkAreas;
+        readLock.lock();
+        try {
+            network.getVariantManager().setWorkingVariant(workingVariantCopyId);
 
-        // Step 0: reset all network areas cache
-        Map<BalanceComputationArea, NetworkArea> networkAreas = areas.stream()
-                .collect(Collectors.toMap(Function.identity(), ba -> ba.getNetworkAreaFactory().create(network)));
+            // Step 0: reset all network areas cache
+            networkAreas = NetworkAreaUtil.createNetworkAreas(network, areas.stream()
+                    .map(BalanceComputationArea::getNetworkAreaFactory)
+                    .collect(Collectors.toList()));
+
+            if (parameters.isFeasibilityCheckEnabled()) {
+                Optional<String> infeasibility = FeasibilityCheck.checkTargetNetPositionsSum(network, areas, networkAreas, parameters);
+                if (infeasibility.isPresent()) {
+                    LOGGER.error("Balance computation is not feasible: {}", infeasibility.get());
+                    return new BalanceComputationResult(BalanceComputationResult.Status.FAILED, iterationCounter);
+                }
+            }
+        } finally {
+            readLock.unlock();
+        }
 
         do {
-            // Step 1: Perform the scaling
-            for (Map.Entry<BalanceComputationArea, Double> entry : balanceOffsets.entrySet()) {
-                BalanceComputationArea area = entry.getKey();
-                double asked = entry.getValue();
-
-                Scalable scalable = area.getScalable();
-                double done = 0;
-                if (parameters.isLoadPowerFactorConstant()) {
-                    done = scalable.scaleWithConstantPowerFactor(network, balanceOffsets.get(area));
+            readLock.lock();
+            try {
+                // Step 1: Perform the scaling, no offset is known before the first loadflow
+                if (iterationCounter > 0) {
+                    if (scalingExecutor != null) {
+                        scaleInParallel(network, workingVariantCopyId, balanceOffsets, parameters, scalingExecutor);
+                    } else {
+                        for (int i = 0; i < areas.size(); i++) {
+                            BalanceComputationArea area = areas.get(i);
+                            double asked = balanceOffsets[i];
+                            double done = scale(network, area, asked, parameters);
+                            LOGGER.info("Scaling for area {}: asked={}, done={}", area.getName(), asked, done);
+                        }
+                    }
+                }
+
+                // Step 2: compute Loadflow, unless the flows of the input variant can be used for the first iteration
+                if (iterationCounter == 0 && parameters.isReuseInitialFlows() && hasBorderFlows(networkAreas)) {
+                    LOGGER.info("Initial loadflow skipped, flows of the input variant are used");
                 } else {
-                    done = scalable.scale(network, balanceOffsets.get(area));
+                    LoadFlowResult loadFlowResult = loadFlowRunner.run(network, workingVariantCopyId, computationManager, parameters.getLoadFlowParameters());
+                    if (!loadFlowResult.isOk()) {
+                        LOGGER.error("Loadflow on network {} does not converge", network.getId());
+                        return new BalanceComputationResult(BalanceComputationResult.Status.FAILED, iterationCounter);
+                    }
                 }
-                LOGGER.info("Scaling for area {}: asked={}, done={}", area.getName(), asked, done);
-            }
 
-            // Step 2: compute Loadflow
-            LoadFlowResult loadFlowResult = loadFlowRunner.run(network, workingVariantCopyId, computationManager, parameters.getLoadFlowParameters());
-            if (!loadFlowResult.isOk()) {
-                LOGGER.error("Loadflow on network {} does not converge", network.getId());
-                result = new BalanceComputationResult(BalanceComputationResult.Status.FAILED, iterationCounter);
-                return CompletableFuture.completedFuture(result);
-            }
+                // Step 3: Compute balance and mismatch for each area
+                double[] netPositions = NetworkAreaUtil.getNetPositions(network, networkAreas);
+                double[] mismatches = new double[areas.size()];
+                double mismatchesNorm = 0.0;
+                for (int i = 0; i < areas.size(); i++) {
+                    BalanceComputationArea area = areas.get(i);
+                    double target = area.getTargetNetPosition();
+                    double balance = netPositions[i];
+                    mismatches[i] = target - balance;
+                    LOGGER.info("Mismatch for area {}: {} (target={}, balance={})", area.getName(), mismatches[i], target, balance);
 
-            // Step 3: Compute balance and mismatch for each area
-            double mismatchesNorm = 0.0;
-            for (BalanceComputationArea area : areas) {
-                NetworkArea na = networkAreas.get(area);
-                double target = area.getTargetNetPosition();
-                double balance = na.getNetPosition();
-                double oldMismatch = balanceOffsets.computeIfAbsent(area, k -> 0.0);
-                double mismatch = target - balance;
-                balanceOffsets.put(area, oldMismatch + mismatch);
-                LOGGER.info("Mismatch for area {}: {} (target={}, balance={})", area.getName(), mismatch, target, balance);
-
-                mismatchesNorm += mismatch * mismatch;
-            }
+                    mismatchesNorm += mismatches[i] * mismatches[i];
+                }
+                if (parameters.isAdaptiveRelaxation()) {
+                    relaxationFactor = updateRelaxationFactor(relaxationFactor, previousMismatchesNorm, mismatchesNorm);
+                    previousMismatchesNorm = mismatchesNorm;
+                }
+                for (int i = 0; i < areas.size(); i++) {
+                    balanceOffsets[i] += relaxationFactor * mismatches[i];
+                }
 
-            // Step 4: Checks balance adjustment results
-            if (mismatchesNorm < parameters.getThresholdNetPosition()) {
-                result = new BalanceComputationResult(BalanceComputationResult.Status.SUCCESS, ++iterationCounter, balanceOffsets);
-                network.getVariantManager().cloneVariant(workingVariantCopyId, workingStateId, true);
-            } else {
-                // Reset current variant with initial state
-                network.getVariantManager().cloneVariant(workingStateId, workingVariantCopyId, true);
-                result = new BalanceComputationResult(BalanceComputationResult.Status.FAILED, ++iterationCounter, balanceOffsets);
+                // Step 4: Checks balance adjustment results
+                if (isBalanced(mismatches, parameters)) {
+                    result = new BalanceComputationResult(BalanceComputationResult.Status.SUCCESS, ++iterationCounter, areas, balanceOffsets, netPositions);
+                } else {
+                    // Reset current variant with initial state
+                    VariantManager variantManager = network.getVariantManager();
+                    synchronized (variantManager) {
+                        variantManager.cloneVariant(initialStateCopyId, workingVariantCopyId, true);
+                    }
+                    result = new BalanceComputationResult(BalanceComputationResult.Status.FAILED, ++iterationCounter, areas, balanceOffsets, netPositions);
+
+                    if (iterationCounter == 1 && parameters.isFeasibilityCheckEnabled()) {
+                        Optional<String> infeasibility = FeasibilityCheck.checkScalingHeadroom(network, areas, balanceOffsets);
+                        if (infeasibility.isPresent()) {
+                            LOGGER.error("Balance computation is not feasible: {}", infeasibility.get());
+                            return result;
+                        }
+                    }
+                }
+            } finally {
+                readLock.unlock();
             }
         } while (iterationCounter < parameters.getMaxNumberIterations() && result.getStatus() != BalanceComputationResult.Status.SUCCESS);
 
@@ -132,9 +273,129 @@ public class BalanceComputationImpl implements BalanceComputation {
             LOGGER.error(" Areas are unbalanced after {} iterations", iterationCounter);
         }
 
-        network.getVariantManager().removeVariant(workingVariantCopyId);
-        network.getVariantManager().setWorkingVariant(initialVariantId);
+        return result;
+    }
+
+    /**
+     * Flows of the input variant can only be reused if they are defined on all the connected border terminals of the
+     * areas, e.g. not on a variant that has never been computed.
+     */
+    private static boolean hasBorderFlows(List<NetworkArea> networkAreas) {
+        for (NetworkArea networkArea : networkAreas) {
+            List<BorderElement> borderElements = networkArea.getBorderElements();
+            if (borderElements.isEmpty() && Double.isNaN(networkArea.getNetPosition())) {
+                LOGGER.warn("Net position of an area is not defined on the input variant, initial loadflow is run");
+                return false;
+            }
+            for (BorderElement borderElement : borderElements) {
+                Optional<Boundary> boundary = borderElement.getBoundary();
+                boolean undefinedFlow = boundary.isPresent()
+                        ? borderElement.getTerminals().get(0).isConnected() && Double.isNaN(boundary.get().getP())
+                        : borderElement.getTerminals().stream().anyMatch(terminal -> terminal.isConnected() && Double.isNaN(terminal.getP()));
+                if (undefinedFlow) {
+                    LOGGER.warn("Flow of border element {} is not defined on the input variant, initial loadflow is run", borderElement.getElement().getId());
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Areas with a specific threshold are balanced when their absolute mismatch is under it, the other ones when the
+     * norm of their mismatches is under the global threshold.
+     */
+    private boolean isBalanced(double[] mismatches, BalanceComputationParameters parameters) {
+        Map<String, Double> areaThresholds = parameters.getAreaThresholdNetPositions();
+        BalanceComputationParameters.MismatchNorm mismatchNorm = parameters.getMismatchNorm();
+        double norm = 0;
+        int normAreaCount = 0;
+        for (int i = 0; i < areas.size(); i++) {
+            double absMismatch = Math.abs(mismatches[i]);
+            Double areaThreshold = areaThresholds.get(areas.get(i).getName());
+            if (areaThreshold != null) {
+                if (absMismatch >= areaThreshold) {
+                    return false;
+                }
+            } else {
+                normAreaCount++;
+                norm = mismatchNorm == BalanceComputationParameters.MismatchNorm.MAX_ABSOLUTE ? Math.max(norm, absMismatch) : norm + absMismatch * absMismatch;
+            }
+        }
+        if (mismatchNorm == BalanceComputationParameters.MismatchNorm.L2) {
+            norm = Math.sqrt(norm);
+        }
+        return normAreaCount == 0 || norm < parameters.getThresholdNetPosition();
+    }
+
+    /**
+     * Under-relax the offset update when the mismatches norm does not decrease, as the previous update overshot,
+     * and over-relax it when the norm decreases slowly, as the previous update was too cautious.
+     */
+    private static double updateRelaxationFactor(double relaxationFactor, double previousMismatchesNorm, double mismatchesNorm) {
+        if (Double.isNaN(previousMismatchesNorm) || previousMismatchesNorm == 0) {
+            return relaxationFactor;
+        }
+        // Norms are sums of squares
+        double reduction = Math.sqrt(mismatchesNorm / previousMismatchesNorm);
+        double updatedFactor = relaxationFactor;
+        if (reduction >= 1) {
+            updatedFactor = Math.max(MIN_RELAXATION_FACTOR, relaxationFactor / 2);
+        } else if (reduction > 0.5) {
+            updatedFactor = Math.min(MAX_RELAXATION_FACTOR, relaxationFactor * 1.25);
+        }
+        if (updatedFactor != relaxationFactor) {
+            LOGGER.info("Relaxation factor updated from {} to {} (mismatches norm reduction={})", relaxationFactor, updatedFactor, reduction);
+        }
+        return updatedFactor;
+    }
+
+    private static double scale(Network network, BalanceComputationArea area, double asked, BalanceComputationParameters parameters) {
+        Scalable scalable = area.getScalable();
+        if (parameters.isLoadPowerFactorConstant()) {
+            return scalable.scaleWithConstantPowerFactor(network, asked);
+        } else {
+            return scalable.scale(network, asked);
+        }
+    }
+
+    /**
+     * Scale all the areas concurrently on the given executor. Variant multi-thread access has to be allowed on the
+     * network, so that each worker can work on the working variant copy.
+     * Results are logged afterwards in the order of the areas, so that the logs do not depend on thread scheduling.
+     */
+    private void scaleInParallel(Network network, String workingVariantId, double[] balanceOffsets, BalanceComputationParameters parameters,
+                                 ExecutorService executor) {
+        VariantManager variantManager = network.getVariantManager();
+        double[] done = new double[areas.size()];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[areas.size()];
+        for (int i = 0; i < areas.size(); i++) {
+            int areaIndex = i;
+            futures[i] = CompletableFuture.runAsync(() -> {
+                variantManager.setWorkingVariant(workingVariantId);
+                done[areaIndex] = scale(network, areas.get(areaIndex), balanceOffsets[areaIndex], parameters);
+            }, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+
+        for (int i = 0; i < areas.size(); i++) {
+            LOGGER.info("Scaling for area {}: asked={}, done={}", areas.get(i).getName(), balanceOffsets[i], done[i]);
+        }
+    }
 
-        return CompletableFuture.completedFuture(result);
+    /**
+     * Areas can only be scaled concurrently if their scalables do not share any injection.
+     */
+    private void checkNoSharedInjection(Network network) {
+        Map<String, String> areaNameByInjectionId = new HashMap<>();
+        for (BalanceComputationArea area : areas) {
+            for (Injection<?> injection : area.getScalable().filterInjections(network)) {
+                String otherAreaName = areaNameByInjectionId.putIfAbsent(injection.getId(), area.getName());
+                if (otherAreaName != null && !otherAreaName.equals(area.getName())) {
+                    throw new PowsyblException("Areas " + otherAreaName + " and " + area.getName() + " cannot be scaled in parallel: "
+                            + "injection " + injection.getId() + " is shared by their scalables");
+                }
+            }
+        }
     }
 }
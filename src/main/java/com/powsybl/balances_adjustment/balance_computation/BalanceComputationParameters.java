@@ -12,6 +12,9 @@ import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.extensions.*;
 import com.powsybl.loadflow.LoadFlowParameters;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -22,16 +25,47 @@ import java.util.Objects;
  */
 public class BalanceComputationParameters extends AbstractExtendable<BalanceComputationParameters> {
 
+    /**
+     * Norm of the mismatches compared with the net position threshold
+     */
+    public enum MismatchNorm {
+        /**
+         * Sum of the squared mismatches (given in square MW)
+         */
+        SUM_OF_SQUARES,
+        /**
+         * Square root of the sum of the squared mismatches (given in MW)
+         */
+        L2,
+        /**
+         * Maximum absolute mismatch (given in MW)
+         */
+        MAX_ABSOLUTE
+    }
+
     public static final double DEFAULT_THRESHOLD_NET_POSITION = 1;
     public static final int DEFAULT_MAX_NUMBER_ITERATIONS = 5;
     public static final boolean DEFAULT_LOAD_POWER_FACTOR_CONSTANT = false;
+    public static final boolean DEFAULT_PARALLEL_SCALING = false;
+    public static final boolean DEFAULT_REUSE_INITIAL_FLOWS = false;
+    public static final boolean DEFAULT_FEASIBILITY_CHECK_ENABLED = false;
+    public static final boolean DEFAULT_ADAPTIVE_RELAXATION = false;
+    public static final MismatchNorm DEFAULT_MISMATCH_NORM = MismatchNorm.SUM_OF_SQUARES;
 
     /**
-     * Threshold for comparing net positions (given in MW).
-     * Under this threshold, the network area is balanced
+     * Threshold for comparing net positions, in the unit of the mismatch norm.
+     * When the norm of the mismatches is under this threshold, the network areas are balanced
      */
     private double thresholdNetPosition;
 
+    private MismatchNorm mismatchNorm = DEFAULT_MISMATCH_NORM;
+
+    /**
+     * Thresholds of specific areas, given in MW and indexed by area name. The absolute mismatch of each of these areas
+     * must be under its own threshold, and these areas are not taken into account in the mismatch norm.
+     */
+    private final Map<String, Double> areaThresholdNetPositions = new LinkedHashMap<>();
+
     /**
      * Maximum iteration number for balances adjustment
      */
@@ -39,6 +73,30 @@ public class BalanceComputationParameters extends AbstractExtendable<BalanceComp
 
     private boolean loadPowerFactorConstant;
 
+    /**
+     * Scale the areas concurrently. Scalables of the areas must not share any injection.
+     */
+    private boolean parallelScaling = DEFAULT_PARALLEL_SCALING;
+
+    /**
+     * Compute the initial mismatches from the flows of the input variant instead of running a first loadflow.
+     * The input variant must then already contain valid flows, from a converged loadflow. If a flow is not defined on
+     * a border of the areas, the first loadflow is run anyway.
+     */
+    private boolean reuseInitialFlows = DEFAULT_REUSE_INITIAL_FLOWS;
+
+    /**
+     * Stop the computation as soon as it is detected that targets cannot be reached: sum of target net positions
+     * inconsistent with a network fully covered by the areas, or not enough scaling headroom in an area.
+     */
+    private boolean feasibilityCheckEnabled = DEFAULT_FEASIBILITY_CHECK_ENABLED;
+
+    /**
+     * Apply a relaxation factor to the offset update, decreased when the mismatches norm does not decrease
+     * (overshoot, oscillations) and increased when it decreases slowly.
+     */
+    private boolean adaptiveRelaxation = DEFAULT_ADAPTIVE_RELAXATION;
+
     /**
      * Constructor with default parameters
      */
@@ -83,6 +141,42 @@ public class BalanceComputationParameters extends AbstractExtendable<BalanceComp
         this.loadPowerFactorConstant = loadPowerFactorConstant;
     }
 
+    public boolean isParallelScaling() {
+        return parallelScaling;
+    }
+
+    public BalanceComputationParameters setParallelScaling(boolean parallelScaling) {
+        this.parallelScaling = parallelScaling;
+        return this;
+    }
+
+    public boolean isReuseInitialFlows() {
+        return reuseInitialFlows;
+    }
+
+    public BalanceComputationParameters setReuseInitialFlows(boolean reuseInitialFlows) {
+        this.reuseInitialFlows = reuseInitialFlows;
+        return this;
+    }
+
+    public boolean isFeasibilityCheckEnabled() {
+        return feasibilityCheckEnabled;
+    }
+
+    public BalanceComputationParameters setFeasibilityCheckEnabled(boolean feasibilityCheckEnabled) {
+        this.feasibilityCheckEnabled = feasibilityCheckEnabled;
+        return this;
+    }
+
+    public boolean isAdaptiveRelaxation() {
+        return adaptiveRelaxation;
+    }
+
+    public BalanceComputationParameters setAdaptiveRelaxation(boolean adaptiveRelaxation) {
+        this.adaptiveRelaxation = adaptiveRelaxation;
+        return this;
+    }
+
     /**
      * A configuration loader interface for the RaoComputationParameters extensions loaded from the platform configuration
      *
@@ -140,6 +234,32 @@ public class BalanceComputationParameters extends AbstractExtendable<BalanceComp
         return this;
     }
 
+    public MismatchNorm getMismatchNorm() {
+        return mismatchNorm;
+    }
+
+    public BalanceComputationParameters setMismatchNorm(MismatchNorm mismatchNorm) {
+        this.mismatchNorm = Objects.requireNonNull(mismatchNorm);
+        return this;
+    }
+
+    public Map<String, Double> getAreaThresholdNetPositions() {
+        return Collections.unmodifiableMap(areaThresholdNetPositions);
+    }
+
+    public BalanceComputationParameters setAreaThresholdNetPositions(Map<String, Double> areaThresholdNetPositions) {
+        Objects.requireNonNull(areaThresholdNetPositions);
+        areaThresholdNetPositions.values().forEach(BalanceComputationParameters::checkThresholdNetPosition);
+        this.areaThresholdNetPositions.clear();
+        this.areaThresholdNetPositions.putAll(areaThresholdNetPositions);
+        return this;
+    }
+
+    public BalanceComputationParameters setAreaThresholdNetPosition(String areaName, double thresholdNetPosition) {
+        areaThresholdNetPositions.put(Objects.requireNonNull(areaName), checkThresholdNetPosition(thresholdNetPosition));
+        return this;
+    }
+
     public int getMaxNumberIterations() {
         return maxNumberIterations;
     }
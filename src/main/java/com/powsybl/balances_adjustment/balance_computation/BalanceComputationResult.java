@@ -7,7 +7,9 @@
 package com.powsybl.balances_adjustment.balance_computation;
 
 import java.beans.ConstructorProperties;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,6 +38,16 @@ public class BalanceComputationResult {
      */
     private final Map<BalanceComputationArea, Double> balancedScalingMap;
 
+    /**
+     * Net positions of the areas measured at the last iteration, empty if no net position was measured
+     */
+    private final Map<BalanceComputationArea, Double> netPositions;
+
+    /**
+     * Duration of the computation in milliseconds, or -1 if it was not measured
+     */
+    private final long computationTime;
+
     @ConstructorProperties("status")
     public BalanceComputationResult(Status status) {
         this(status, 0);
@@ -46,9 +58,42 @@ public class BalanceComputationResult {
     }
 
     public BalanceComputationResult(Status status, int iterationCount, Map<BalanceComputationArea, Double> scalingMap) {
+        this(status, iterationCount, scalingMap, Collections.emptyMap(), -1);
+    }
+
+    private BalanceComputationResult(Status status, int iterationCount, Map<BalanceComputationArea, Double> scalingMap,
+                                     Map<BalanceComputationArea, Double> netPositions, long computationTime) {
         this.status = status;
         this.iterationCount = iterationCount;
         this.balancedScalingMap = scalingMap;
+        this.netPositions = netPositions;
+        this.computationTime = computationTime;
+    }
+
+    /**
+     * The scaling map of the result is a read-only view of the copied values, see {@link #getBalancedScalingMap()}.
+     *
+     * @param areas Areas of the computation
+     * @param scalings Values of scaling power applied, indexed as the areas. The values are copied.
+     */
+    public BalanceComputationResult(Status status, int iterationCount, List<BalanceComputationArea> areas, double[] scalings) {
+        this(status, iterationCount, new IndexedAreaMap(areas, scalings.clone()));
+    }
+
+    /**
+     * @param areas Areas of the computation
+     * @param scalings Values of scaling power applied, indexed as the areas. The values are copied.
+     * @param netPositions Net positions measured at the last iteration, indexed as the areas. The values are copied.
+     */
+    public BalanceComputationResult(Status status, int iterationCount, List<BalanceComputationArea> areas, double[] scalings, double[] netPositions) {
+        this(status, iterationCount, new IndexedAreaMap(areas, scalings.clone()), new IndexedAreaMap(areas, netPositions.clone()), -1);
+    }
+
+    /**
+     * @return A copy of this result with the given computation duration, in milliseconds
+     */
+    BalanceComputationResult withComputationTime(long computationTime) {
+        return new BalanceComputationResult(status, iterationCount, balancedScalingMap, netPositions, computationTime);
     }
 
     public Status getStatus() {
@@ -59,7 +104,25 @@ public class BalanceComputationResult {
         return iterationCount;
     }
 
+    /**
+     * @return The scaling power applied for each area. The map is read-only for results built from arrays of values,
+     * as the ones of the balance computation: it must be copied to be modified.
+     */
     public Map<BalanceComputationArea, Double> getBalancedScalingMap() {
         return balancedScalingMap;
     }
+
+    /**
+     * @return The net positions of the areas measured at the last iteration, as a read-only map
+     */
+    public Map<BalanceComputationArea, Double> getNetPositions() {
+        return netPositions;
+    }
+
+    /**
+     * @return The duration of the computation in milliseconds, or -1 if it was not measured
+     */
+    public long getComputationTime() {
+        return computationTime;
+    }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+/**
+ * Receives the results of a batch of balance computations as soon as their computations complete.
+ * Calls are made by the thread running the batch, under the write lock of the variants of the network, i.e. between
+ * the steps of the computations in progress, so that implementations do not need to be thread-safe and may create or
+ * remove variants of the network.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+@FunctionalInterface
+public interface BalanceComputationResultSink {
+
+    /**
+     * @param scenarioIndex The index of the scenario in the batch
+     * @param scenario The scenario, whose working variant is no longer used by the batch and may be removed
+     * @param result The result of the balance computation of the scenario
+     */
+    void accept(int scenarioIndex, BalanceComputationBatch.Scenario scenario, BalanceComputationResult result);
+}
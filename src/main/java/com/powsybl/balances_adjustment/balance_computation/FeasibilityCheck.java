@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.balances_adjustment.util.NetworkArea;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Cheap checks detecting balance computations that can never converge, so that they can be stopped
+ * before running useless loadflows. Each check gives the reason of the infeasibility, if any.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+final class FeasibilityCheck {
+
+    /**
+     * When the areas cover all the buses of a network without dangling lines, each bus being in a single area, the
+     * network is closed and, the flows of border elements being shared equally between both sides, the net positions
+     * of the areas sum to zero.
+     */
+    static Optional<String> checkTargetNetPositionsSum(Network network, List<BalanceComputationArea> areas, List<NetworkArea> networkAreas,
+                                                       BalanceComputationParameters parameters) {
+        if (network.getDanglingLineCount() > 0) {
+            return Optional.empty();
+        }
+        Set<Bus> coveredBuses = new HashSet<>();
+        int containedBusCount = 0;
+        for (NetworkArea networkArea : networkAreas) {
+            Collection<Bus> buses = networkArea.getContainedBusViewBuses();
+            coveredBuses.addAll(buses);
+            containedBusCount += buses.size();
+        }
+        if (containedBusCount != coveredBuses.size() || network.getBusView().getBusStream().anyMatch(bus -> !coveredBuses.contains(bus))) {
+            return Optional.empty();
+        }
+        double targetNetPositionsSum = areas.stream().mapToDouble(BalanceComputationArea::getTargetNetPosition).sum();
+        if (Math.abs(targetNetPositionsSum) > getMismatchesSumTolerance(areas, parameters)) {
+            return Optional.of("Areas cover the whole network but the sum of their target net positions is " + targetNetPositionsSum + " MW");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Largest absolute sum of the mismatches of balanced areas, in MW, given the thresholds and the mismatch norm.
+     */
+    private static double getMismatchesSumTolerance(List<BalanceComputationArea> areas, BalanceComputationParameters parameters) {
+        double tolerance = 0;
+        int normAreaCount = 0;
+        for (BalanceComputationArea area : areas) {
+            Double areaThreshold = parameters.getAreaThresholdNetPositions().get(area.getName());
+            if (areaThreshold != null) {
+                tolerance += areaThreshold;
+            } else {
+                normAreaCount++;
+            }
+        }
+        double threshold = parameters.getThresholdNetPosition();
+        switch (parameters.getMismatchNorm()) {
+            case SUM_OF_SQUARES:
+                // Threshold is given in square MW
+                return tolerance + Math.sqrt(normAreaCount * threshold);
+            case L2:
+                return tolerance + Math.sqrt(normAreaCount) * threshold;
+            case MAX_ABSOLUTE:
+                return tolerance + normAreaCount * threshold;
+            default:
+                throw new IllegalStateException("Unknown mismatch norm: " + parameters.getMismatchNorm());
+        }
+    }
+
+    /**
+     * Check that the scalable of each area can provide the offset asked to reach its target net position,
+     * considering the limits of the underlying injections and of the scalable itself.
+     */
+    static Optional<String> checkScalingHeadroom(Network network, List<BalanceComputationArea> areas, double[] offsets) {
+        for (int i = 0; i < areas.size(); i++) {
+            BalanceComputationArea area = areas.get(i);
+            Scalable scalable = area.getScalable();
+            double current = scalable.filterInjections(network).stream().mapToDouble(FeasibilityCheck::getTargetGeneration).sum();
+            double upHeadroom = scalable.maximumValue(network) - current;
+            double downHeadroom = current - scalable.minimumValue(network);
+            if (offsets[i] > upHeadroom) {
+                return Optional.of("Scaling of area " + area.getName() + " cannot be increased by " + offsets[i] + " MW (available: " + upHeadroom + " MW)");
+            }
+            if (-offsets[i] > downHeadroom) {
+                return Optional.of("Scaling of area " + area.getName() + " cannot be decreased by " + -offsets[i] + " MW (available: " + downHeadroom + " MW)");
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Active power set point of an injection, using the generator sign convention as scalables do.
+     */
+    private static double getTargetGeneration(Injection<?> injection) {
+        if (injection instanceof Generator) {
+            return ((Generator) injection).getTargetP();
+        } else if (injection instanceof Load) {
+            return -((Load) injection).getP0();
+        } else if (injection instanceof DanglingLine) {
+            return -((DanglingLine) injection).getP0();
+        }
+        return 0;
+    }
+
+    private FeasibilityCheck() {
+    }
+}
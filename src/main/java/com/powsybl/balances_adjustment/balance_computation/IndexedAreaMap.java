@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+import java.util.*;
+
+/**
+ * Read-only map view over values stored in an array, indexed as a list of balance computation areas.
+ * Areas are looked up by identity, as {@link BalanceComputationArea} does not override equals, through an index built
+ * on first lookup only, so that results that are only iterated do not pay for it.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+class IndexedAreaMap extends AbstractMap<BalanceComputationArea, Double> {
+
+    private final List<BalanceComputationArea> areas;
+    private final double[] values;
+
+    /**
+     * Position of each area in the list, the first one if an area is given several times
+     */
+    private final Supplier<Map<Object, Integer>> indexes;
+
+    IndexedAreaMap(List<BalanceComputationArea> areas, double[] values) {
+        this.areas = Objects.requireNonNull(areas);
+        this.values = Objects.requireNonNull(values);
+        if (areas.size() != values.length) {
+            throw new IllegalArgumentException("Areas count (" + areas.size() + ") and values count (" + values.length + ") are different");
+        }
+        this.indexes = Suppliers.memoize(() -> {
+            Map<Object, Integer> areaIndexes = new IdentityHashMap<>(areas.size());
+            for (int i = 0; i < areas.size(); i++) {
+                areaIndexes.putIfAbsent(areas.get(i), i);
+            }
+            return areaIndexes;
+        });
+    }
+
+    @Override
+    public Double get(Object key) {
+        Integer index = indexes.get().get(key);
+        return index != null ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexes.get().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return areas.size();
+    }
+
+    @Override
+    public Set<Entry<BalanceComputationArea, Double>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<BalanceComputationArea, Double>> iterator() {
+                return new Iterator<>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < areas.size();
+                    }
+
+                    @Override
+                    public Entry<BalanceComputationArea, Double> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<BalanceComputationArea, Double> entry = new SimpleImmutableEntry<>(areas.get(index), values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return areas.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.balances_adjustment.util.NetworkArea;
+import com.powsybl.balances_adjustment.util.NetworkAreaUtil;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Linear screening of balance computation scenarios, based on DC loadflows.
+ * <p>
+ *     The sensitivities of the net positions of the areas to the scaling of each area are computed once, by finite
+ *     differences between DC loadflows run on scratch variants. Offsets and net positions of any number of target net
+ *     position scenarios are then obtained by linear algebra only, with neither iteration nor network modification.
+ *     Selected scenarios can then be computed accurately with {@link BalanceComputationImpl}.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class LinearBalanceScreening {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinearBalanceScreening.class);
+
+    /**
+     * Power scaled on each area to compute the sensitivities (given in MW)
+     */
+    public static final double DEFAULT_PERTURBATION = 100;
+
+    /**
+     * Result of the screening of a scenario, values are indexed as the areas
+     */
+    public static class Result {
+
+        private final double[] offsets;
+
+        private final double[] predictedNetPositions;
+
+        Result(double[] offsets, double[] predictedNetPositions) {
+            this.offsets = offsets;
+            this.predictedNetPositions = predictedNetPositions;
+        }
+
+        public double[] getOffsets() {
+            return offsets.clone();
+        }
+
+        public double[] getPredictedNetPositions() {
+            return predictedNetPositions.clone();
+        }
+    }
+
+    private final List<BalanceComputationArea> areas;
+
+    private final ComputationManager computationManager;
+
+    private final LoadFlow.Runner loadFlowRunner;
+
+    private final double perturbation;
+
+    public LinearBalanceScreening(List<BalanceComputationArea> areas, ComputationManager computationManager, LoadFlow.Runner loadFlowRunner) {
+        this(areas, computationManager, loadFlowRunner, DEFAULT_PERTURBATION);
+    }
+
+    public LinearBalanceScreening(List<BalanceComputationArea> areas, ComputationManager computationManager, LoadFlow.Runner loadFlowRunner,
+                                  double perturbation) {
+        this.areas = Objects.requireNonNull(areas);
+        this.computationManager = Objects.requireNonNull(computationManager);
+        this.loadFlowRunner = Objects.requireNonNull(loadFlowRunner);
+        if (perturbation <= 0) {
+            throw new IllegalArgumentException("Perturbation must be strictly positive");
+        }
+        this.perturbation = perturbation;
+    }
+
+    /**
+     * Compute the sensitivities of the net positions of the areas around the state of a given variant.
+     * The loadflow parameters are used in DC mode. The given variant is not modified.
+     */
+    public AreaNetPositionSensitivities computeSensitivities(Network network, String workingStateId, BalanceComputationParameters parameters) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(workingStateId);
+        Objects.requireNonNull(parameters);
+
+        LoadFlowParameters loadFlowParameters = parameters.getLoadFlowParameters().copy().setDc(true);
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        try (VariantPool pool = new VariantPool(network)) {
+            List<NetworkArea> networkAreas = NetworkAreaUtil.createNetworkAreas(network, areas.stream()
+                    .map(BalanceComputationArea::getNetworkAreaFactory)
+                    .collect(Collectors.toList()));
+
+            double[] baseNetPositions = computeNetPositions(network, pool, workingStateId, networkAreas, loadFlowParameters, null);
+            double[][] sensitivities = new double[areas.size()][areas.size()];
+            for (int i = 0; i < areas.size(); i++) {
+                BalanceComputationArea area = areas.get(i);
+                double[] done = new double[1];
+                double[] netPositions = computeNetPositions(network, pool, workingStateId, networkAreas, loadFlowParameters,
+                    () -> done[0] = area.getScalable().scale(network, perturbation));
+                if (done[0] == 0) {
+                    LOGGER.warn("Area {} cannot be scaled, its offset has no influence on net positions", area.getName());
+                    continue;
+                }
+                for (int j = 0; j < areas.size(); j++) {
+                    sensitivities[j][i] = (netPositions[j] - baseNetPositions[j]) / done[0];
+                }
+            }
+            return new AreaNetPositionSensitivities(areas, baseNetPositions, sensitivities);
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+        }
+    }
+
+    /**
+     * Compute the net positions of the areas on a given variant with a DC loadflow. The given variant is not modified.
+     */
+    public double[] computeBaseNetPositions(Network network, String workingStateId, BalanceComputationParameters parameters) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(workingStateId);
+        Objects.requireNonNull(parameters);
+
+        LoadFlowParameters loadFlowParameters = parameters.getLoadFlowParameters().copy().setDc(true);
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        try (VariantPool pool = new VariantPool(network)) {
+            List<NetworkArea> networkAreas = NetworkAreaUtil.createNetworkAreas(network, areas.stream()
+                    .map(BalanceComputationArea::getNetworkAreaFactory)
+                    .collect(Collectors.toList()));
+            return computeNetPositions(network, pool, workingStateId, networkAreas, loadFlowParameters, null);
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+        }
+    }
+
+    /**
+     * Compute the offsets and net positions predicted by the linear model for each scenario of target net positions.
+     * Target net positions of a scenario are indexed as the areas.
+     */
+    public static List<Result> screen(AreaNetPositionSensitivities sensitivities, List<double[]> targetNetPositionsScenarios) {
+        Objects.requireNonNull(sensitivities);
+        return targetNetPositionsScenarios.stream()
+                .map(targetNetPositions -> {
+                    double[] offsets = sensitivities.computeOffsets(targetNetPositions);
+                    return new Result(offsets, sensitivities.predictNetPositions(offsets));
+                })
+                .collect(Collectors.toList());
+    }
+
+    private double[] computeNetPositions(Network network, VariantPool pool, String workingStateId, List<NetworkArea> networkAreas,
+                                         LoadFlowParameters loadFlowParameters, Runnable modification) {
+        String variantId = pool.acquire(workingStateId);
+        try {
+            network.getVariantManager().setWorkingVariant(variantId);
+            if (modification != null) {
+                modification.run();
+            }
+            LoadFlowResult loadFlowResult = loadFlowRunner.run(network, variantId, computationManager, loadFlowParameters);
+            if (!loadFlowResult.isOk()) {
+                throw new PowsyblException("DC loadflow on network " + network.getId() + " does not converge");
+            }
+            return NetworkAreaUtil.getNetPositions(network, networkAreas);
+        } finally {
+            pool.release(variantId);
+        }
+    }
+}
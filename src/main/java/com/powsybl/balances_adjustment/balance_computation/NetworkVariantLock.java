@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lock of the variants of a network, shared by all the balance computations running on the network.
+ * <p>
+ *     Creating or removing a variant resizes the variant arrays of all the elements of the network, which is not safe
+ *     while another thread works on any variant. Balance computations hold the read lock while they work on their
+ *     variants, one step at a time, and variants are only created or removed under the write lock, i.e. between the
+ *     steps of the computations running on the same network. Overwriting an existing variant does not resize anything
+ *     and only needs the read lock.
+ *     The write lock must not be requested while holding the read lock.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+final class NetworkVariantLock {
+
+    /**
+     * Locks by network. Networks are weakly referenced, and locks do not reference them.
+     */
+    private static final Map<Network, ReadWriteLock> LOCKS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static ReadWriteLock of(Network network) {
+        return LOCKS.computeIfAbsent(network, n -> new ReentrantReadWriteLock());
+    }
+
+    private NetworkVariantLock() {
+    }
+}
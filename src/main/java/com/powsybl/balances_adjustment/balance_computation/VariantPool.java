@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A pool of scratch variants of a network.
+ * <p>
+ *     Released variants are not removed from the network but kept alive, and overwritten by the next acquisition.
+ *     Once the pool is warmed up, balance computations sharing it do not create nor remove any variant, so that
+ *     variant arrays of the network elements are not reallocated at each run.
+ *     All the operations are serialized on the variant manager of the network.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class VariantPool implements AutoCloseable {
+
+    private final Network network;
+
+    private final String variantIdPrefix;
+
+    private final Set<String> variantIds = new HashSet<>();
+
+    private final Deque<String> idleVariantIds = new ArrayDeque<>();
+
+    private boolean closed = false;
+
+    public VariantPool(Network network) {
+        this.network = Objects.requireNonNull(network);
+        this.variantIdPrefix = "BALANCE COMPUTATION " + UUID.randomUUID() + " ";
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    /**
+     * Get a scratch variant initialized with the state of a given variant.
+     * An idle variant of the pool is overwritten if any, else a new variant is created.
+     *
+     * @return The id of the scratch variant
+     */
+    public String acquire(String sourceVariantId) {
+        Objects.requireNonNull(sourceVariantId);
+        VariantManager variantManager = network.getVariantManager();
+        synchronized (variantManager) {
+            checkNotClosed();
+            String variantId = idleVariantIds.poll();
+            if (variantId != null) {
+                variantManager.cloneVariant(sourceVariantId, variantId, true);
+                return variantId;
+            }
+        }
+        Lock writeLock = NetworkVariantLock.of(network).writeLock();
+        writeLock.lock();
+        try {
+            synchronized (variantManager) {
+                checkNotClosed();
+                String variantId = variantIdPrefix + variantIds.size();
+                variantManager.cloneVariant(sourceVariantId, variantId);
+                variantIds.add(variantId);
+                return variantId;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Create idle variants until the pool holds the given number of variants, so that up to this number of variants
+     * can then be acquired at once without creating any variant, e.g. while other threads work on the network.
+     * Idle variants are overwritten when acquired, so they are created from any variant of the network.
+     */
+    public void warmUp(int variantCount) {
+        VariantManager variantManager = network.getVariantManager();
+        Lock writeLock = NetworkVariantLock.of(network).writeLock();
+        writeLock.lock();
+        try {
+            synchronized (variantManager) {
+                checkNotClosed();
+                String sourceVariantId = variantManager.getVariantIds().iterator().next();
+                while (variantIds.size() < variantCount) {
+                    String variantId = variantIdPrefix + variantIds.size();
+                    variantManager.cloneVariant(sourceVariantId, variantId);
+                    variantIds.add(variantId);
+                    idleVariantIds.push(variantId);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Give back a scratch variant to the pool. The variant is kept in the network, to be reused by a next acquisition.
+     */
+    public void release(String variantId) {
+        Objects.requireNonNull(variantId);
+        VariantManager variantManager = network.getVariantManager();
+        synchronized (variantManager) {
+            if (!variantIds.contains(variantId) || idleVariantIds.contains(variantId)) {
+                throw new PowsyblException("Variant " + variantId + " is not acquired from this pool");
+            }
+            if (!closed) {
+                idleVariantIds.push(variantId);
+                return;
+            }
+        }
+        Lock writeLock = NetworkVariantLock.of(network).writeLock();
+        writeLock.lock();
+        try {
+            synchronized (variantManager) {
+                if (variantIds.remove(variantId)) {
+                    variantManager.removeVariant(variantId);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of variants created by the pool and still alive in the network
+     */
+    public int getVariantCount() {
+        synchronized (network.getVariantManager()) {
+            return variantIds.size();
+        }
+    }
+
+    /**
+     * @return The number of variants of the pool ready to be reused
+     */
+    public int getIdleVariantCount() {
+        synchronized (network.getVariantManager()) {
+            return idleVariantIds.size();
+        }
+    }
+
+    /**
+     * Remove the idle variants from the network. Variants still acquired are removed when released.
+     */
+    @Override
+    public void close() {
+        VariantManager variantManager = network.getVariantManager();
+        Lock writeLock = NetworkVariantLock.of(network).writeLock();
+        writeLock.lock();
+        try {
+            synchronized (variantManager) {
+                closed = true;
+                for (String variantId : idleVariantIds) {
+                    variantManager.removeVariant(variantId);
+                    variantIds.remove(variantId);
+                }
+                idleVariantIds.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new PowsyblException("Variant pool is closed");
+        }
+    }
+}
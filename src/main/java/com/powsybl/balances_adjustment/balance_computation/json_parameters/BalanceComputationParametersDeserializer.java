@@ -17,7 +17,9 @@ import com.powsybl.loadflow.json.JsonLoadFlowParameters;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Mohamed Ben Rejeb {@literal <mohamed.benrejeb at rte-france.com>}
@@ -49,6 +51,36 @@ public class BalanceComputationParametersDeserializer extends StdDeserializer<Ba
                     parameters.setThresholdNetPosition(parser.readValueAs(double.class));
                     break;
 
+                case "parallelScaling":
+                    parser.nextToken();
+                    parameters.setParallelScaling(parser.readValueAs(boolean.class));
+                    break;
+
+                case "reuseInitialFlows":
+                    parser.nextToken();
+                    parameters.setReuseInitialFlows(parser.readValueAs(boolean.class));
+                    break;
+
+                case "feasibilityCheckEnabled":
+                    parser.nextToken();
+                    parameters.setFeasibilityCheckEnabled(parser.readValueAs(boolean.class));
+                    break;
+
+                case "adaptiveRelaxation":
+                    parser.nextToken();
+                    parameters.setAdaptiveRelaxation(parser.readValueAs(boolean.class));
+                    break;
+
+                case "mismatchNorm":
+                    parser.nextToken();
+                    parameters.setMismatchNorm(BalanceComputationParameters.MismatchNorm.valueOf(parser.getValueAsString()));
+                    break;
+
+                case "areaThresholdNetPositions":
+                    parser.nextToken();
+                    parameters.setAreaThresholdNetPositions(readAreaThresholdNetPositions(parser));
+                    break;
+
                 case "load-flow-parameters":
                     parser.nextToken();
                     JsonLoadFlowParameters.deserialize(parser, deserializationContext, parameters.getLoadFlowParameters());
@@ -69,4 +101,13 @@ public class BalanceComputationParametersDeserializer extends StdDeserializer<Ba
         return parameters;
     }
 
+    private static Map<String, Double> readAreaThresholdNetPositions(JsonParser parser) throws IOException {
+        Map<String, Double> areaThresholdNetPositions = new LinkedHashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String areaName = parser.getCurrentName();
+            parser.nextToken();
+            areaThresholdNetPositions.put(areaName, parser.getValueAsDouble());
+        }
+        return areaThresholdNetPositions;
+    }
 }
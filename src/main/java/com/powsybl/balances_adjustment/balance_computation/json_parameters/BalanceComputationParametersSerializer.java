@@ -14,6 +14,7 @@ import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.loadflow.json.JsonLoadFlowParameters;
 
 import java.io.IOException;
+import java.util.Map;
 
 /**
  * @author Mohamed Ben Rejeb {@literal <mohamed.benrejeb at rte-france.com>}
@@ -30,6 +31,16 @@ public class BalanceComputationParametersSerializer extends StdSerializer<Balanc
 
         jsonGenerator.writeNumberField("maxNumberIterations", parameters.getMaxNumberIterations());
         jsonGenerator.writeNumberField("thresholdNetPosition", parameters.getThresholdNetPosition());
+        jsonGenerator.writeBooleanField("parallelScaling", parameters.isParallelScaling());
+        jsonGenerator.writeBooleanField("reuseInitialFlows", parameters.isReuseInitialFlows());
+        jsonGenerator.writeBooleanField("feasibilityCheckEnabled", parameters.isFeasibilityCheckEnabled());
+        jsonGenerator.writeBooleanField("adaptiveRelaxation", parameters.isAdaptiveRelaxation());
+        jsonGenerator.writeStringField("mismatchNorm", parameters.getMismatchNorm().name());
+        jsonGenerator.writeObjectFieldStart("areaThresholdNetPositions");
+        for (Map.Entry<String, Double> e : parameters.getAreaThresholdNetPositions().entrySet()) {
+            jsonGenerator.writeNumberField(e.getKey(), e.getValue());
+        }
+        jsonGenerator.writeEndObject();
         jsonGenerator.writeFieldName("load-flow-parameters");
         JsonLoadFlowParameters.serialize(parameters.getLoadFlowParameters(), jsonGenerator, serializerProvider);
 
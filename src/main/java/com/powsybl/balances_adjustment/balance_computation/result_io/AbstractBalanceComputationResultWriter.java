@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationArea;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationBatch;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResultSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sink appending the results of a batch of balance computations to a file, as soon as the batch gives them.
+ * <p>
+ *     Records are encoded into a buffer, which is written to the file channel when it is full, when the writer is
+ *     flushed and when it is closed. If the batch dies, only the records of the last buffer are lost.
+ *     Writers are not thread-safe: the batch serializes the calls to its sink.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public abstract class AbstractBalanceComputationResultWriter implements BalanceComputationResultSink, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    protected AbstractBalanceComputationResultWriter(Path file) {
+        this(file, 0);
+    }
+
+    /**
+     * Write records to the given file from the given position, the content of the file after it being discarded
+     */
+    protected AbstractBalanceComputationResultWriter(Path file, long position) {
+        Objects.requireNonNull(file);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(int scenarioIndex, BalanceComputationBatch.Scenario scenario, BalanceComputationResult result) {
+        Objects.requireNonNull(scenario);
+        Objects.requireNonNull(result);
+        write(encode(scenarioIndex, scenario, result));
+    }
+
+    /**
+     * @return The bytes of the record of the given result, ready to be read
+     */
+    protected abstract ByteBuffer encode(int scenarioIndex, BalanceComputationBatch.Scenario scenario, BalanceComputationResult result);
+
+    /**
+     * Append the given bytes to the file, through the buffer unless they do not fit in it
+     */
+    protected void write(ByteBuffer bytes) {
+        if (bytes.remaining() > buffer.remaining()) {
+            flush();
+        }
+        if (bytes.remaining() > buffer.capacity()) {
+            writeFully(bytes);
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    /**
+     * Write the buffered records to the file
+     */
+    public void flush() {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Write the buffered records to the file, and force them to the storage device so that they are not lost if the
+     * system crashes
+     */
+    public void sync() {
+        flush();
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeFully(ByteBuffer bytes) {
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The value of the given area, or NaN if the area has no value
+     */
+    protected static double getValue(Map<BalanceComputationArea, Double> values, BalanceComputationArea area) {
+        Double value = values.get(area);
+        return value != null ? value : Double.NaN;
+    }
+
+    @Override
+    public void close() {
+        try (channel) {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationArea;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationBatch;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResultSink;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Progress of a long batch of balance computations, persisted in a local file so that a crashed or pre-empted batch
+ * can be resumed from where it stopped instead of from scratch.
+ * <p>
+ *     The checkpoint is a sink recording the result of each completed scenario in a binary results file, see
+ *     {@link BinaryBalanceComputationResultWriter}, written to the file system as soon as the batch gives it.
+ *     Opening the checkpoint of an interrupted batch reads back the completed scenarios, whose indexes are given to
+ *     the batch so that they are skipped, and the offsets of the last successful scenario, to be used as a warm start
+ *     of the next ones. New results are appended to the same file.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class BalanceComputationCheckpoint implements BalanceComputationResultSink, Closeable {
+
+    private final BinaryBalanceComputationResultWriter writer;
+
+    private final BitSet completedScenarios = new BitSet();
+
+    private int lastSuccessfulScenarioIndex = -1;
+
+    private final Map<String, Double> lastOffsets = new LinkedHashMap<>();
+
+    private BalanceComputationCheckpoint(Path file) {
+        writer = BinaryBalanceComputationResultWriter.append(file, resultRecord -> {
+            completedScenarios.set(resultRecord.getScenarioIndex());
+            if (resultRecord.getStatus() == BalanceComputationResult.Status.SUCCESS) {
+                double[] offsets = new double[resultRecord.getAreaNames().size()];
+                Arrays.setAll(offsets, resultRecord::getOffset);
+                updateLastOffsets(resultRecord.getScenarioIndex(), resultRecord.getAreaNames(), offsets);
+            }
+        });
+    }
+
+    /**
+     * Open the checkpoint stored in the given file, reading back the progress of a previous batch if the file exists.
+     */
+    public static BalanceComputationCheckpoint open(Path file) {
+        return new BalanceComputationCheckpoint(Objects.requireNonNull(file));
+    }
+
+    /**
+     * @return Whether the scenario of the given index is completed. This method can be given as the completion
+     * predicate of a {@link BalanceComputationBatch} run, to skip the completed scenarios.
+     */
+    public synchronized boolean isCompleted(int scenarioIndex) {
+        return completedScenarios.get(scenarioIndex);
+    }
+
+    public synchronized int getCompletedCount() {
+        return completedScenarios.cardinality();
+    }
+
+    /**
+     * @return The offsets by area name of the successful scenario of highest index, empty if no scenario succeeded
+     */
+    public synchronized Map<String, Double> getLastOffsets() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(lastOffsets));
+    }
+
+    @Override
+    public synchronized void accept(int scenarioIndex, BalanceComputationBatch.Scenario scenario, BalanceComputationResult result) {
+        writer.accept(scenarioIndex, scenario, result);
+        writer.sync();
+        completedScenarios.set(scenarioIndex);
+        if (result.getStatus() == BalanceComputationResult.Status.SUCCESS) {
+            List<String> areaNames = new ArrayList<>(scenario.getAreas().size());
+            double[] offsets = new double[scenario.getAreas().size()];
+            for (int i = 0; i < offsets.length; i++) {
+                BalanceComputationArea area = scenario.getAreas().get(i);
+                areaNames.add(area.getName());
+                Double offset = result.getBalancedScalingMap().get(area);
+                offsets[i] = offset != null ? offset : Double.NaN;
+            }
+            updateLastOffsets(scenarioIndex, areaNames, offsets);
+        }
+    }
+
+    private void updateLastOffsets(int scenarioIndex, List<String> areaNames, double[] offsets) {
+        if (scenarioIndex > lastSuccessfulScenarioIndex) {
+            lastSuccessfulScenarioIndex = scenarioIndex;
+            lastOffsets.clear();
+            for (int i = 0; i < offsets.length; i++) {
+                lastOffsets.put(areaNames.get(i), offsets[i]);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        writer.close();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of a balance computation scenario read from a results file. Areas are identified by their names.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class BalanceComputationResultRecord {
+
+    private final int scenarioIndex;
+    private final String workingStateId;
+    private final BalanceComputationResult.Status status;
+    private final int iterationCount;
+    private final long computationTime;
+    private final List<String> areaNames;
+    private final double[] offsets;
+    private final double[] netPositions;
+
+    BalanceComputationResultRecord(int scenarioIndex, String workingStateId, BalanceComputationResult.Status status, int iterationCount,
+                                   long computationTime, List<String> areaNames, double[] offsets, double[] netPositions) {
+        this.scenarioIndex = scenarioIndex;
+        this.workingStateId = Objects.requireNonNull(workingStateId);
+        this.status = Objects.requireNonNull(status);
+        this.iterationCount = iterationCount;
+        this.computationTime = computationTime;
+        this.areaNames = List.copyOf(areaNames);
+        this.offsets = offsets;
+        this.netPositions = netPositions;
+    }
+
+    public int getScenarioIndex() {
+        return scenarioIndex;
+    }
+
+    public String getWorkingStateId() {
+        return workingStateId;
+    }
+
+    public BalanceComputationResult.Status getStatus() {
+        return status;
+    }
+
+    public int getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * @return The duration of the computation in milliseconds, or -1 if it was not measured
+     */
+    public long getComputationTime() {
+        return computationTime;
+    }
+
+    public List<String> getAreaNames() {
+        return areaNames;
+    }
+
+    /**
+     * @return The scaling offset of the area of the given index, or NaN if the computation gave none
+     */
+    public double getOffset(int areaIndex) {
+        return offsets[areaIndex];
+    }
+
+    /**
+     * @return The net position of the area of the given index measured at the last iteration, or NaN if none was measured
+     */
+    public double getNetPosition(int areaIndex) {
+        return netPositions[areaIndex];
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+import com.powsybl.commons.PowsyblException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads the results files written by {@link BinaryBalanceComputationResultWriter}.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class BinaryBalanceComputationResultReader {
+
+    /**
+     * Size of the file header: magic number and version
+     */
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    /**
+     * What is needed to append records to a results file
+     */
+    static final class FileState {
+
+        /**
+         * Area names of the dictionary, in order of their ids
+         */
+        private final List<String> areaNames = new ArrayList<>();
+
+        /**
+         * Length of the file without its truncated last record, if any
+         */
+        private long validLength = HEADER_SIZE;
+
+        List<String> getAreaNames() {
+            return areaNames;
+        }
+
+        long getValidLength() {
+            return validLength;
+        }
+    }
+
+    /**
+     * Read the records of a results file in order. A truncated last record, left by a batch that died while writing
+     * it, is ignored.
+     *
+     * @return The number of records read
+     */
+    public static int read(Path file, Consumer<BalanceComputationResultRecord> consumer) {
+        Objects.requireNonNull(consumer);
+        int[] recordCount = {0};
+        readState(file, consumer.andThen(resultRecord -> recordCount[0]++));
+        return recordCount[0];
+    }
+
+    static FileState readState(Path file, Consumer<BalanceComputationResultRecord> consumer) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(consumer);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != BinaryBalanceComputationResultWriter.MAGIC) {
+                throw new PowsyblException("File " + file + " is not a balance computation results file");
+            }
+            short version = input.readShort();
+            if (version != BinaryBalanceComputationResultWriter.VERSION) {
+                throw new PowsyblException("Unsupported balance computation results file version: " + version);
+            }
+            FileState state = new FileState();
+            BalanceComputationResultRecord resultRecord;
+            while ((resultRecord = readRecord(input, state)) != null) {
+                consumer.accept(resultRecord);
+            }
+            return state;
+        } catch (EOFException e) {
+            throw new PowsyblException("File " + file + " is not a balance computation results file");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BalanceComputationResultRecord readRecord(DataInputStream input, FileState state) throws IOException {
+        List<String> areaNames = state.areaNames;
+        int areaNameCount = areaNames.size();
+        int scenarioIndex;
+        try {
+            scenarioIndex = input.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        try {
+            long recordLength = Integer.BYTES + Byte.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+            String workingStateId = readString(input);
+            recordLength += getLength(workingStateId);
+            BalanceComputationResult.Status status = readStatus(input);
+            int iterationCount = input.readInt();
+            long computationTime = input.readLong();
+            int areaCount = input.readInt();
+            List<String> recordAreaNames = new ArrayList<>(areaCount);
+            double[] offsets = new double[areaCount];
+            double[] netPositions = new double[areaCount];
+            for (int i = 0; i < areaCount; i++) {
+                int areaNameId = input.readInt();
+                if (areaNameId == areaNames.size()) {
+                    areaNames.add(readString(input));
+                    recordLength += getLength(areaNames.get(areaNameId));
+                }
+                recordLength += Integer.BYTES + 2 * Double.BYTES;
+                recordAreaNames.add(areaNames.get(areaNameId));
+                offsets[i] = input.readDouble();
+                netPositions[i] = input.readDouble();
+            }
+            state.validLength += recordLength;
+            return new BalanceComputationResultRecord(scenarioIndex, workingStateId, status, iterationCount, computationTime,
+                    recordAreaNames, offsets, netPositions);
+        } catch (EOFException e) {
+            // Truncated last record: the area names it defines are not kept
+            areaNames.subList(areaNameCount, areaNames.size()).clear();
+            return null;
+        }
+    }
+
+    private static BalanceComputationResult.Status readStatus(DataInputStream input) throws IOException {
+        byte ordinal = input.readByte();
+        BalanceComputationResult.Status[] statuses = BalanceComputationResult.Status.values();
+        if (ordinal < 0 || ordinal >= statuses.length) {
+            throw new PowsyblException("Invalid balance computation result status: " + ordinal);
+        }
+        return statuses[ordinal];
+    }
+
+    private static int getLength(String value) {
+        return Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readUnsignedShort()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private BinaryBalanceComputationResultReader() {
+    }
+}
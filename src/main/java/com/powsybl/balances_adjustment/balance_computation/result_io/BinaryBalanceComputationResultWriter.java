@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationArea;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationBatch;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+import com.powsybl.commons.PowsyblException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes the results of a batch of balance computations to a compact binary file, read by
+ * {@link BinaryBalanceComputationResultReader}.
+ * <p>
+ *     The file starts with a magic number and a format version, followed by a record per scenario, with a fixed
+ *     big-endian layout:
+ * </p>
+ * <pre>
+ * int scenarioIndex, string workingStateId, byte status, int iterationCount, long computationTime, int areaCount,
+ * then for each area: int areaNameId, [string areaName,] double offset, double netPosition
+ * </pre>
+ * <p>
+ *     Area names are dictionary encoded: the name is written after its id only at its first occurrence in the file,
+ *     ids being given in order of appearance. Strings are written as an unsigned short length followed by their
+ *     UTF-8 bytes.
+ * </p>
+ * <p>
+ *     The layout is row oriented rather than columnar: a columnar layout would need the results of the whole batch,
+ *     or of blocks of scenarios, to be held in memory before being written, whereas each record is appended as soon
+ *     as its scenario completes, so that a batch that dies loses at most the records of the last buffer.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BinaryBalanceComputationResultWriter extends AbstractBalanceComputationResultWriter {
+
+    static final int MAGIC = 0x42435253;
+
+    static final short VERSION = 1;
+
+    private final Map<String, Integer> areaNameIds = new HashMap<>();
+
+    public BinaryBalanceComputationResultWriter(Path file) {
+        this(file, null);
+    }
+
+    private BinaryBalanceComputationResultWriter(Path file, BinaryBalanceComputationResultReader.FileState state) {
+        super(file, state != null ? state.getValidLength() : 0);
+        if (state != null) {
+            state.getAreaNames().forEach(areaName -> areaNameIds.put(areaName, areaNameIds.size()));
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(BinaryBalanceComputationResultReader.HEADER_SIZE);
+            header.putInt(MAGIC).putShort(VERSION).flip();
+            write(header);
+        }
+    }
+
+    /**
+     * Create a writer appending records to a results file, after its last complete record. A truncated last record,
+     * left by a batch that died while writing it, is overwritten. If the file does not exist or is shorter than the
+     * header, e.g. left by a batch that died while writing its first record, it is written from scratch.
+     */
+    public static BinaryBalanceComputationResultWriter append(Path file) {
+        return append(file, resultRecord -> { });
+    }
+
+    /**
+     * Create a writer appending records to a results file, see {@link #append(Path)}, and give the records already
+     * in the file to the given consumer.
+     */
+    static BinaryBalanceComputationResultWriter append(Path file, Consumer<BalanceComputationResultRecord> consumer) {
+        if (!Files.exists(file) || file.toFile().length() < BinaryBalanceComputationResultReader.HEADER_SIZE) {
+            return new BinaryBalanceComputationResultWriter(file);
+        }
+        return new BinaryBalanceComputationResultWriter(file, BinaryBalanceComputationResultReader.readState(file, consumer));
+    }
+
+    @Override
+    protected ByteBuffer encode(int scenarioIndex, BalanceComputationBatch.Scenario scenario, BalanceComputationResult result) {
+        byte[] workingStateId = toBytes(scenario.getWorkingStateId());
+        byte[][] newAreaNames = new byte[scenario.getAreas().size()][];
+        int[] ids = new int[scenario.getAreas().size()];
+        int size = Integer.BYTES + Short.BYTES + workingStateId.length + Byte.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+        for (int i = 0; i < ids.length; i++) {
+            String areaName = scenario.getAreas().get(i).getName();
+            Integer id = areaNameIds.get(areaName);
+            if (id == null) {
+                id = areaNameIds.size();
+                areaNameIds.put(areaName, id);
+                newAreaNames[i] = toBytes(areaName);
+                size += Short.BYTES + newAreaNames[i].length;
+            }
+            ids[i] = id;
+            size += Integer.BYTES + 2 * Double.BYTES;
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(size);
+        bytes.putInt(scenarioIndex);
+        putString(bytes, workingStateId);
+        bytes.put((byte) result.getStatus().ordinal())
+                .putInt(result.getIterationCount())
+                .putLong(result.getComputationTime())
+                .putInt(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            BalanceComputationArea area = scenario.getAreas().get(i);
+            bytes.putInt(ids[i]);
+            if (newAreaNames[i] != null) {
+                putString(bytes, newAreaNames[i]);
+            }
+            bytes.putDouble(getValue(result.getBalancedScalingMap(), area))
+                    .putDouble(getValue(result.getNetPositions(), area));
+        }
+        return bytes.flip();
+    }
+
+    private static byte[] toBytes(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new PowsyblException("String is too long to be written: " + value.substring(0, 32) + "...");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer bytes, byte[] value) {
+        bytes.putShort((short) value.length).put(value);
+    }
+}
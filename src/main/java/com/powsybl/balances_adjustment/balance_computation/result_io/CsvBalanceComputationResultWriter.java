@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationArea;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationBatch;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Writes the results of a batch of balance computations to a CSV file, with a line per scenario and per area:
+ * <pre>
+ * scenarioIndex;workingStateId;status;iterationCount;computationTime;area;offset;netPosition
+ * </pre>
+ * A scenario without any area has a single line, whose area columns are empty.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class CsvBalanceComputationResultWriter extends AbstractBalanceComputationResultWriter {
+
+    private static final char SEPARATOR = ';';
+
+    static final String HEADER = String.join(String.valueOf(SEPARATOR),
+            "scenarioIndex", "workingStateId", "status", "iterationCount", "computationTime", "area", "offset", "netPosition");
+
+    public CsvBalanceComputationResultWriter(Path file) {
+        super(file);
+        write(StandardCharsets.UTF_8.encode(HEADER + System.lineSeparator()));
+    }
+
+    @Override
+    protected ByteBuffer encode(int scenarioIndex, BalanceComputationBatch.Scenario scenario, BalanceComputationResult result) {
+        String scenarioColumns = new StringBuilder()
+                .append(scenarioIndex).append(SEPARATOR)
+                .append(escape(scenario.getWorkingStateId())).append(SEPARATOR)
+                .append(result.getStatus()).append(SEPARATOR)
+                .append(result.getIterationCount()).append(SEPARATOR)
+                .append(result.getComputationTime()).append(SEPARATOR)
+                .toString();
+        StringBuilder lines = new StringBuilder();
+        if (scenario.getAreas().isEmpty()) {
+            lines.append(scenarioColumns).append(SEPARATOR).append(SEPARATOR).append(System.lineSeparator());
+        }
+        for (BalanceComputationArea area : scenario.getAreas()) {
+            lines.append(scenarioColumns)
+                    .append(escape(area.getName())).append(SEPARATOR)
+                    .append(getValue(result.getBalancedScalingMap(), area)).append(SEPARATOR)
+                    .append(getValue(result.getNetPositions(), area))
+                    .append(System.lineSeparator());
+        }
+        return StandardCharsets.UTF_8.encode(lines.toString());
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
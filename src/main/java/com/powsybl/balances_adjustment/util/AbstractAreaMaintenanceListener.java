@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Network listener classifying the changes of the network that may modify the border elements or the buses of an area.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+abstract class AbstractAreaMaintenanceListener implements NetworkListener {
+
+    /**
+     * Updated attributes that may modify the bus view topology
+     */
+    private static final Set<String> TOPOLOGY_ATTRIBUTES = Set.of("open", "retained", "connectableBus", "connected");
+
+    /**
+     * Called when an element is created: it may be a new border element
+     */
+    abstract void onElementCreated(Identifiable<?> identifiable);
+
+    /**
+     * Called before an element is removed: it must be removed from the border elements
+     */
+    abstract void onElementRemoval(Identifiable<?> identifiable);
+
+    /**
+     * Called when the country of a substation changes: the elements of the substation may become or may no longer be
+     * border elements
+     */
+    void onCountryChanged(Substation substation) {
+        // Nothing to do by default
+    }
+
+    /**
+     * Called when the bus view topology may have changed
+     */
+    abstract void onTopologyChanged();
+
+    /**
+     * Copy of a border list with the element in its current state. Border lists are never modified but replaced, so
+     * that evaluations in progress keep reading a consistent list.
+     */
+    static <T> List<T> refresh(List<T> borders, T element, boolean border) {
+        List<T> refreshed = new ArrayList<>(borders);
+        refreshed.remove(element);
+        if (border) {
+            refreshed.add(element);
+        }
+        return List.copyOf(refreshed);
+    }
+
+    /**
+     * Copy of a border list without the element
+     */
+    static <T> List<T> remove(List<T> borders, Object element) {
+        if (!borders.contains(element)) {
+            return borders;
+        }
+        List<T> removed = new ArrayList<>(borders);
+        removed.remove(element);
+        return List.copyOf(removed);
+    }
+
+    @Override
+    public void onCreation(Identifiable identifiable) {
+        onElementCreated(identifiable);
+        onTopologyChanged();
+    }
+
+    @Override
+    public void beforeRemoval(Identifiable identifiable) {
+        onElementRemoval(identifiable);
+        onTopologyChanged();
+    }
+
+    @Override
+    public void afterRemoval(String id) {
+        // Already handled before removal
+    }
+
+    @Override
+    public void onUpdate(Identifiable identifiable, String attribute, Object oldValue, Object newValue) {
+        if (identifiable instanceof Substation && "country".equals(attribute)) {
+            onCountryChanged((Substation) identifiable);
+            onTopologyChanged();
+        } else if (TOPOLOGY_ATTRIBUTES.contains(attribute)) {
+            onTopologyChanged();
+        }
+    }
+
+    @Override
+    public void onUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+        onUpdate(identifiable, attribute, oldValue, newValue);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.iidm.network.Boundary;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Terminal;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Element at the border of a network area, with its orientation.
+ * <p>
+ *     Each terminal of the element is given the weight of its flow in the flow leaving the area through the element:
+ *     positive for terminals inside the area, negative for terminals outside. For instance, a line crossing the border
+ *     has a weight of 0.5 on its side inside the area and -0.5 on the other side, and a dangling line inside the area
+ *     has a weight of 1 on its terminal. If the element is described by the boundary of a dangling line, the leaving
+ *     flow is the opposite of the boundary flow.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class BorderElement {
+
+    private final Identifiable<?> element;
+
+    private final List<Terminal> terminals;
+
+    private final double[] weights;
+
+    private final Boundary boundary;
+
+    public BorderElement(Identifiable<?> element, List<Terminal> terminals, double[] weights) {
+        this(element, terminals, weights, null);
+    }
+
+    private BorderElement(Identifiable<?> element, List<Terminal> terminals, double[] weights, Boundary boundary) {
+        this.element = Objects.requireNonNull(element);
+        this.terminals = List.copyOf(terminals);
+        this.weights = Objects.requireNonNull(weights).clone();
+        if (terminals.size() != weights.length) {
+            throw new IllegalArgumentException("A weight must be given for each terminal");
+        }
+        this.boundary = boundary;
+    }
+
+    /**
+     * Border element described by the boundary of a dangling line, whose terminal is inside the area
+     */
+    public static BorderElement ofBoundary(Identifiable<?> danglingLine, Terminal terminal, Boundary boundary) {
+        return new BorderElement(danglingLine, List.of(terminal), new double[] {1}, Objects.requireNonNull(boundary));
+    }
+
+    /**
+     * @return The element: line, transformer, HVDC line, dangling line or any connectable
+     */
+    public Identifiable<?> getElement() {
+        return element;
+    }
+
+    public List<Terminal> getTerminals() {
+        return terminals;
+    }
+
+    /**
+     * @return The weight of the flow of the terminal of the given index in the leaving flow
+     */
+    public double getWeight(int terminalIndex) {
+        return weights[terminalIndex];
+    }
+
+    /**
+     * @return Whether the terminal of the given index is inside the area
+     */
+    public boolean isInArea(int terminalIndex) {
+        return weights[terminalIndex] > 0;
+    }
+
+    public Optional<Boundary> getBoundary() {
+        return Optional.ofNullable(boundary);
+    }
+
+    /**
+     * @return The flow leaving the area through the element. Disconnected terminals and undefined flows count as 0.
+     */
+    public double getLeavingFlow() {
+        if (boundary != null) {
+            return terminals.get(0).isConnected() && !Double.isNaN(boundary.getP()) ? -boundary.getP() : 0;
+        }
+        double leavingFlow = 0;
+        for (int i = 0; i < terminals.size(); i++) {
+            Terminal terminal = terminals.get(i);
+            leavingFlow += terminal.isConnected() && !Double.isNaN(terminal.getP()) ? weights[i] * terminal.getP() : 0;
+        }
+        return leavingFlow;
+    }
+}
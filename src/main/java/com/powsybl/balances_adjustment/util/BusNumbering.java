@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+
+import java.util.*;
+
+/**
+ * Dense numbering of the bus view buses of a network, in the topology of the working variant at build time.
+ * It can be shared by several {@link BusSetArea} of the same network.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class BusNumbering {
+
+    public static final int NO_BUS = -1;
+
+    private final Network network;
+
+    private final Bus[] buses;
+
+    private final Map<String, Integer> busNums;
+
+    private BusNumbering(Network network) {
+        this.network = network;
+        List<Bus> busList = new ArrayList<>();
+        network.getBusView().getBuses().forEach(busList::add);
+        this.buses = busList.toArray(new Bus[0]);
+        this.busNums = new HashMap<>(buses.length * 2);
+        for (int num = 0; num < buses.length; num++) {
+            busNums.put(buses[num].getId(), num);
+        }
+    }
+
+    public static BusNumbering of(Network network) {
+        return new BusNumbering(Objects.requireNonNull(network));
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public int getBusCount() {
+        return buses.length;
+    }
+
+    public Bus getBus(int num) {
+        return buses[num];
+    }
+
+    /**
+     * @return The number of the bus view bus of the given id, or {@link #NO_BUS}
+     */
+    public int getNum(String busId) {
+        return busNums.getOrDefault(busId, NO_BUS);
+    }
+
+    /**
+     * @return The number of the bus view bus the terminal is connectable to, or {@link #NO_BUS}
+     */
+    public int getNum(Terminal terminal) {
+        Bus bus = terminal.getBusView().getConnectableBus();
+        return bus != null ? getNum(bus.getId()) : NO_BUS;
+    }
+
+    /**
+     * @return The set of the numbers of the buses of the given ids
+     */
+    public BitSet toBitSet(Collection<String> busIds) {
+        BitSet bitSet = new BitSet(buses.length);
+        for (String busId : busIds) {
+            int num = getNum(busId);
+            if (num == NO_BUS) {
+                throw new PowsyblException("Bus " + busId + " is not a bus view bus of network " + network.getId());
+            }
+            bitSet.set(num);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Network area defined by an arbitrary set of bus view buses, e.g. a bidding zone or a custom region.
+ * <p>
+ *     Membership is stored as a bit set over a dense numbering of the buses, and border elements are detected from
+ *     the numbers of the buses of their terminals. Only the terminals of the border elements are kept, with the weight
+ *     of their flow in the net position, so that large areas stay compact in memory and fast to evaluate.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BusSetArea implements NetworkArea {
+
+    private final BusNumbering numbering;
+
+    private final BitSet buses;
+
+    /**
+     * Terminals of the border elements, the ones of the element k being between indexes borderElementStarts[k]
+     * and borderElementStarts[k + 1]
+     */
+    private final Terminal[] borderTerminals;
+
+    /**
+     * Weight of the flow of each border terminal in the net position
+     */
+    private final double[] weights;
+
+    private final int[] borderElementStarts;
+
+    private final Identifiable<?>[] borderElements;
+
+    public BusSetArea(Network network, Collection<String> busIds) {
+        this(BusNumbering.of(network), busIds);
+    }
+
+    public BusSetArea(BusNumbering numbering, Collection<String> busIds) {
+        this(numbering, numbering.toBitSet(busIds));
+    }
+
+    /**
+     * @param buses Numbers of the buses of the area in the given numbering
+     */
+    public BusSetArea(BusNumbering numbering, BitSet buses) {
+        this.numbering = Objects.requireNonNull(numbering);
+        this.buses = (BitSet) Objects.requireNonNull(buses).clone();
+
+        List<Terminal> terminals = new ArrayList<>();
+        List<Double> terminalWeights = new ArrayList<>();
+        List<Integer> starts = new ArrayList<>();
+        List<Identifiable<?>> elements = new ArrayList<>();
+        Network network = numbering.getNetwork();
+        for (DanglingLine danglingLine : network.getDanglingLines()) {
+            if (isInArea(danglingLine.getTerminal())) {
+                starts.add(terminals.size());
+                elements.add(danglingLine);
+                terminals.add(danglingLine.getTerminal());
+                terminalWeights.add(1.);
+            }
+        }
+        network.getBranches().forEach(branch -> addIfBorder(branch, Arrays.asList(branch.getTerminal1(), branch.getTerminal2()),
+                terminals, terminalWeights, starts, elements));
+        network.getThreeWindingsTransformers().forEach(twt -> addIfBorder(twt, Arrays.asList(twt.getLeg1().getTerminal(), twt.getLeg2().getTerminal(), twt.getLeg3().getTerminal()),
+                terminals, terminalWeights, starts, elements));
+        network.getHvdcLines().forEach(hvdcLine -> addIfBorder(hvdcLine, Arrays.asList(hvdcLine.getConverterStation1().getTerminal(), hvdcLine.getConverterStation2().getTerminal()),
+                terminals, terminalWeights, starts, elements));
+        starts.add(terminals.size());
+
+        this.borderTerminals = terminals.toArray(new Terminal[0]);
+        this.weights = terminalWeights.stream().mapToDouble(Double::doubleValue).toArray();
+        this.borderElementStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+        this.borderElements = elements.toArray(new Identifiable<?>[0]);
+    }
+
+    /**
+     * The leaving flow of a border element is half the difference between the flows entering it from the area and
+     * the ones entering it from outside.
+     */
+    private void addIfBorder(Identifiable<?> element, List<Terminal> elementTerminals, List<Terminal> terminals, List<Double> terminalWeights,
+                             List<Integer> starts, List<Identifiable<?>> elements) {
+        boolean[] inArea = new boolean[elementTerminals.size()];
+        int inAreaCount = 0;
+        for (int i = 0; i < inArea.length; i++) {
+            inArea[i] = isInArea(elementTerminals.get(i));
+            inAreaCount += inArea[i] ? 1 : 0;
+        }
+        if (inAreaCount == 0 || inAreaCount == inArea.length) {
+            return;
+        }
+        starts.add(terminals.size());
+        elements.add(element);
+        for (int i = 0; i < inArea.length; i++) {
+            terminals.add(elementTerminals.get(i));
+            terminalWeights.add(inArea[i] ? 0.5 : -0.5);
+        }
+    }
+
+    @Override
+    public List<BorderElement> getBorderElements() {
+        List<BorderElement> elements = new ArrayList<>(borderElements.length);
+        for (int k = 0; k < borderElements.length; k++) {
+            int start = borderElementStarts[k];
+            int end = borderElementStarts[k + 1];
+            elements.add(new BorderElement(borderElements[k], Arrays.asList(borderTerminals).subList(start, end), Arrays.copyOfRange(weights, start, end)));
+        }
+        return elements;
+    }
+
+    void compileMembership(NetworkAreaTemplate.Builder builder) {
+        buses.stream().forEach(num -> builder.addBus(numbering.getBus(num).getId()));
+    }
+
+    private boolean isInArea(Terminal terminal) {
+        int num = numbering.getNum(terminal);
+        return num != BusNumbering.NO_BUS && buses.get(num);
+    }
+
+    @Override
+    public double getNetPosition() {
+        double netPosition = 0;
+        for (int i = 0; i < borderTerminals.length; i++) {
+            netPosition += getWeightedFlow(i);
+        }
+        return netPosition;
+    }
+
+    @Override
+    public List<DoubleSupplier> getLeavingFlows() {
+        List<DoubleSupplier> leavingFlows = new ArrayList<>(borderElementStarts.length - 1);
+        for (int k = 0; k < borderElementStarts.length - 1; k++) {
+            int start = borderElementStarts[k];
+            int end = borderElementStarts[k + 1];
+            leavingFlows.add(() -> {
+                double leavingFlow = 0;
+                for (int i = start; i < end; i++) {
+                    leavingFlow += getWeightedFlow(i);
+                }
+                return leavingFlow;
+            });
+        }
+        return leavingFlows;
+    }
+
+    private double getWeightedFlow(int i) {
+        Terminal terminal = borderTerminals[i];
+        return terminal.isConnected() && !Double.isNaN(terminal.getP()) ? weights[i] * terminal.getP() : 0;
+    }
+
+    @Override
+    public Collection<Bus> getContainedBusViewBuses() {
+        List<Bus> containedBuses = new ArrayList<>(buses.cardinality());
+        buses.stream().forEach(num -> containedBuses.add(numbering.getBus(num)));
+        return Collections.unmodifiableList(containedBuses);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.*;
+
+/**
+ * A {@link NetworkAreaFactory} instance that creates new {@link BusSetArea}.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BusSetAreaFactory implements NetworkAreaFactory {
+
+    private final List<String> busIds;
+
+    public BusSetAreaFactory(String... busIds) {
+        this(Arrays.asList(busIds));
+    }
+
+    public BusSetAreaFactory(Collection<String> busIds) {
+        this.busIds = new ArrayList<>(busIds);
+    }
+
+    @Override
+    public BusSetArea create(Network network) {
+        return new BusSetArea(network, busIds);
+    }
+}
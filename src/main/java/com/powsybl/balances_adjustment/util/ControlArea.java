@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.cgmes.extensions.CgmesControlArea;
+import com.powsybl.cgmes.extensions.CgmesControlAreas;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Network area defined by a CGMES control area, as imported in the {@link CgmesControlAreas} extension of the network.
+ * <p>
+ *     The net position is computed from the tie flows declared in the control area only: its terminals and the
+ *     boundaries of its dangling lines. No scan of the network is needed, so that the area construction is
+ *     proportional to the number of tie flows. As the control area does not define its buses, no contained bus is
+ *     provided.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class ControlArea implements NetworkArea {
+
+    private final String id;
+
+    private final double netInterchange;
+
+    private final List<Terminal> terminals;
+
+    private final List<Boundary> boundaries;
+
+    public ControlArea(Network network, String controlAreaId) {
+        this(getCgmesControlArea(network, controlAreaId));
+    }
+
+    public ControlArea(CgmesControlArea controlArea) {
+        Objects.requireNonNull(controlArea);
+        this.id = controlArea.getId();
+        this.netInterchange = controlArea.getNetInterchange();
+        this.terminals = new ArrayList<>(controlArea.getTerminals());
+        this.boundaries = new ArrayList<>(controlArea.getBoundaries());
+    }
+
+    private static CgmesControlArea getCgmesControlArea(Network network, String controlAreaId) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(controlAreaId);
+        CgmesControlAreas controlAreas = network.getExtension(CgmesControlAreas.class);
+        if (controlAreas == null) {
+            throw new PowsyblException("Network " + network.getId() + " has no CGMES control areas");
+        }
+        if (!controlAreas.containsCgmesControlAreaId(controlAreaId)) {
+            throw new PowsyblException("CGMES control area " + controlAreaId + " not found in network " + network.getId());
+        }
+        return controlAreas.getCgmesControlArea(controlAreaId);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return The net interchange declared in the control area, that can be used as target net position
+     */
+    public double getNetInterchange() {
+        return netInterchange;
+    }
+
+    @Override
+    public double getNetPosition() {
+        double netPosition = 0;
+        for (Terminal terminal : terminals) {
+            netPosition += getLeavingFlow(terminal);
+        }
+        for (Boundary boundary : boundaries) {
+            netPosition += getLeavingFlow(boundary);
+        }
+        return netPosition;
+    }
+
+    @Override
+    public List<DoubleSupplier> getLeavingFlows() {
+        List<DoubleSupplier> leavingFlows = new ArrayList<>(terminals.size() + boundaries.size());
+        terminals.forEach(terminal -> leavingFlows.add(() -> getLeavingFlow(terminal)));
+        boundaries.forEach(boundary -> leavingFlows.add(() -> getLeavingFlow(boundary)));
+        return leavingFlows;
+    }
+
+    @Override
+    public List<BorderElement> getBorderElements() {
+        List<BorderElement> borderElements = new ArrayList<>(terminals.size() + boundaries.size());
+        terminals.forEach(terminal -> borderElements.add(new BorderElement(terminal.getConnectable(), List.of(terminal), new double[] {1})));
+        boundaries.forEach(boundary -> {
+            DanglingLine danglingLine = (DanglingLine) boundary.getConnectable();
+            borderElements.add(BorderElement.ofBoundary(danglingLine, danglingLine.getTerminal(), boundary));
+        });
+        return borderElements;
+    }
+
+    private static double getLeavingFlow(Terminal terminal) {
+        return terminal.isConnected() && !Double.isNaN(terminal.getP()) ? terminal.getP() : 0;
+    }
+
+    /**
+     * Boundary flow is the flow entering the dangling line at its boundary side, so its opposite is leaving the area.
+     */
+    private static double getLeavingFlow(Boundary boundary) {
+        Connectable<?> danglingLine = boundary.getConnectable();
+        boolean connected = danglingLine instanceof Injection && ((Injection<?>) danglingLine).getTerminal().isConnected();
+        return connected && !Double.isNaN(boundary.getP()) ? -boundary.getP() : 0;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.Objects;
+
+/**
+ * A {@link NetworkAreaFactory} instance that creates new {@link ControlArea}.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class ControlAreaFactory implements NetworkAreaFactory {
+
+    private final String controlAreaId;
+
+    public ControlAreaFactory(String controlAreaId) {
+        this.controlAreaId = Objects.requireNonNull(controlAreaId);
+    }
+
+    @Override
+    public ControlArea create(Network network) {
+        return new ControlArea(network, controlAreaId);
+    }
+}
@@ -6,10 +6,13 @@
  */
 package com.powsybl.balances_adjustment.util;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 
 import java.util.*;
+import java.util.function.DoubleSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -21,28 +24,141 @@ public class CountryArea implements NetworkArea {
 
     private final List<Country> countries = new ArrayList<>();
 
-    private final List<DanglingLine> danglingLineBordersCache;
-    private final List<Line> lineBordersCache;
-    private final List<HvdcLine> hvdcLineBordersCache;
+    /**
+     * Index giving the membership of the voltage levels, or null if membership is read from their country
+     */
+    private final NetworkAreaIndex index;
+    private final int areaId;
 
-    private final Set<Bus> busesCache;
+    private final Network network;
+
+    /**
+     * Immutable lists, replaced when the area is maintained
+     */
+    private volatile List<DanglingLine> danglingLineBordersCache;
+    private volatile List<Line> lineBordersCache;
+    private volatile List<HvdcLine> hvdcLineBordersCache;
+
+    /**
+     * Computed on first use only, as it requires the bus view of the whole network. Areas read from an index get
+     * their buses from it, as it finds the buses of all its areas at once.
+     */
+    private volatile Supplier<Set<Bus>> busesCache;
+
+    /**
+     * Loads of the buses of the area, invalidated together with the buses
+     */
+    private volatile Supplier<List<Load>> loadsCache;
+
+    private NetworkListener maintenanceListener;
 
     public CountryArea(Network network, List<Country> countries) {
+        this(network, countries, null, NetworkAreaIndex.NO_AREA);
+    }
+
+    /**
+     * Create the area whose membership is read from the given index.
+     */
+    public CountryArea(NetworkAreaIndex index, int areaId, List<Country> countries) {
+        this(index.getNetwork(), countries, index, areaId);
+    }
+
+    private CountryArea(Network network, List<Country> countries, NetworkAreaIndex index, int areaId) {
         this.countries.addAll(countries);
+        this.index = index;
+        this.areaId = areaId;
+        this.network = network;
 
         danglingLineBordersCache = network.getDanglingLineStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
         lineBordersCache = network.getLineStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
         hvdcLineBordersCache = network.getHvdcLineStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
+
+        busesCache = createBusesCache();
+        loadsCache = createLoadsCache();
+    }
+
+    private Supplier<Set<Bus>> createBusesCache() {
+        if (index != null) {
+            return Suppliers.memoize(() -> Set.copyOf(index.getBuses(areaId)));
+        }
+        return Suppliers.memoize(() -> network.getBusView().getBusStream()
+                .filter(bus -> isInArea(bus.getVoltageLevel()))
+                .collect(Collectors.toSet()));
+    }
+
+    private Supplier<List<Load>> createLoadsCache() {
+        if (index != null) {
+            return () -> index.getLoads(areaId);
+        }
+        return Suppliers.memoize(NetworkArea.super::getContainedLoads);
+    }
+
+    /**
+     * Keep the border elements and the buses of the area up to date with the changes of the network, instead of
+     * rebuilding the area: border lists are replaced by updated copies when elements are created or removed and when
+     * the country of a substation changes, so that an evaluation in progress keeps reading the lists it started with.
+     * Maintenance must be stopped once the area is no longer used, so that the network does not keep it alive.
+     * Balance computations create their areas at each run: a maintained area is only reused if it is given to them
+     * by a factory returning it, e.g. {@code n -> area}.
+     */
+    public synchronized void startMaintenance() {
+        if (index != null) {
+            throw new PowsyblException("An area read from an index cannot be maintained incrementally");
+        }
+        if (maintenanceListener == null) {
+            maintenanceListener = new AbstractAreaMaintenanceListener() {
+                @Override
+                void onElementCreated(Identifiable<?> identifiable) {
+                    refreshBorder(identifiable);
+                }
+
+                @Override
+                void onElementRemoval(Identifiable<?> identifiable) {
+                    danglingLineBordersCache = AbstractAreaMaintenanceListener.remove(danglingLineBordersCache, identifiable);
+                    lineBordersCache = AbstractAreaMaintenanceListener.remove(lineBordersCache, identifiable);
+                    hvdcLineBordersCache = AbstractAreaMaintenanceListener.remove(hvdcLineBordersCache, identifiable);
+                }
+
+                @Override
+                void onCountryChanged(Substation substation) {
+                    substation.getVoltageLevelStream()
+                            .flatMap(VoltageLevel::getConnectableStream)
+                            .forEach(connectable -> refreshBorder(connectable instanceof HvdcConverterStation ? ((HvdcConverterStation<?>) connectable).getHvdcLine() : connectable));
+                }
+
+                @Override
+                void onTopologyChanged() {
+                    busesCache = createBusesCache();
+                    loadsCache = createLoadsCache();
+                }
+            };
+            network.addListener(maintenanceListener);
+        }
+    }
+
+    public synchronized void stopMaintenance() {
+        if (maintenanceListener != null) {
+            network.removeListener(maintenanceListener);
+            maintenanceListener = null;
+        }
+    }
 
-        busesCache = network.getBusView().getBusStream()
-                .filter(bus -> bus.getVoltageLevel().getSubstation().flatMap(Substation::getCountry).map(countries::contains).orElse(false))
-                .collect(Collectors.toSet());
+    private void refreshBorder(Identifiable<?> identifiable) {
+        if (identifiable instanceof DanglingLine) {
+            danglingLineBordersCache = AbstractAreaMaintenanceListener.refresh(danglingLineBordersCache,
+                    (DanglingLine) identifiable, isAreaBorder((DanglingLine) identifiable));
+        } else if (identifiable instanceof Line) {
+            lineBordersCache = AbstractAreaMaintenanceListener.refresh(lineBordersCache, (Line) identifiable, isAreaBorder((Line) identifiable));
+        } else if (identifiable instanceof HvdcLine) {
+            hvdcLineBordersCache = AbstractAreaMaintenanceListener.refresh(hvdcLineBordersCache,
+                    (HvdcLine) identifiable, isAreaBorder((HvdcLine) identifiable));
+        }
     }
 
     public List<Country> getCountries() {
@@ -56,9 +172,23 @@ public class CountryArea implements NetworkArea {
                 + hvdcLineBordersCache.parallelStream().mapToDouble(this::getLeavingFlow).sum();
     }
 
+    @Override
+    public List<DoubleSupplier> getLeavingFlows() {
+        List<DoubleSupplier> leavingFlows = new ArrayList<>(danglingLineBordersCache.size() + lineBordersCache.size() + hvdcLineBordersCache.size());
+        danglingLineBordersCache.forEach(danglingLine -> leavingFlows.add(() -> getLeavingFlow(danglingLine)));
+        lineBordersCache.forEach(line -> leavingFlows.add(() -> getLeavingFlow(line)));
+        hvdcLineBordersCache.forEach(hvdcLine -> leavingFlows.add(() -> getLeavingFlow(hvdcLine)));
+        return leavingFlows;
+    }
+
     @Override
     public Collection<Bus> getContainedBusViewBuses() {
-        return Collections.unmodifiableCollection(busesCache);
+        return Collections.unmodifiableCollection(busesCache.get());
+    }
+
+    @Override
+    public List<Load> getContainedLoads() {
+        return loadsCache.get();
     }
 
     public double getLeavingFlowToCountry(CountryArea countryArea) {
@@ -82,29 +212,58 @@ public class CountryArea implements NetworkArea {
         return sum;
     }
 
+    @Override
+    public List<BorderElement> getBorderElements() {
+        List<BorderElement> borderElements = new ArrayList<>(danglingLineBordersCache.size() + lineBordersCache.size() + hvdcLineBordersCache.size());
+        danglingLineBordersCache.forEach(danglingLine -> borderElements.add(new BorderElement(danglingLine, List.of(danglingLine.getTerminal()), new double[] {1})));
+        lineBordersCache.forEach(line -> borderElements.add(createBorderElement(line, line.getTerminal1(), line.getTerminal2())));
+        hvdcLineBordersCache.forEach(hvdcLine -> borderElements.add(createBorderElement(hvdcLine,
+                hvdcLine.getConverterStation1().getTerminal(), hvdcLine.getConverterStation2().getTerminal())));
+        return borderElements;
+    }
+
+    private BorderElement createBorderElement(Identifiable<?> element, Terminal terminal1, Terminal terminal2) {
+        double weight1 = isInArea(terminal1.getVoltageLevel()) ? 0.5 : -0.5;
+        return new BorderElement(element, List.of(terminal1, terminal2), new double[] {weight1, -weight1});
+    }
+
+    void compileMembership(NetworkAreaTemplate.Builder builder) {
+        network.getVoltageLevelStream()
+                .filter(this::isInArea)
+                .forEach(voltageLevel -> builder.addVoltageLevel(voltageLevel.getId()));
+    }
+
+    private boolean isInArea(VoltageLevel voltageLevel) {
+        if (index != null) {
+            return index.getAreaId(voltageLevel) == areaId;
+        }
+        return countries.contains(voltageLevel.getSubstation().map(Substation::getNullableCountry).orElse(null));
+    }
+
+    private boolean hasCountry(VoltageLevel voltageLevel) {
+        if (index != null) {
+            return index.hasCountry(voltageLevel);
+        }
+        return voltageLevel.getSubstation().flatMap(Substation::getCountry).isPresent();
+    }
+
     private boolean isAreaBorder(DanglingLine danglingLine) {
-        Country country = danglingLine.getTerminal().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null);
-        return countries.contains(country);
+        return isInArea(danglingLine.getTerminal().getVoltageLevel());
     }
 
     private boolean isAreaBorder(Line line) {
-        Country countrySide1 = line.getTerminal1().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null);
-        Country countrySide2 = line.getTerminal2().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null);
-        if (countrySide1 == null || countrySide2 == null) {
-            return false;
-        }
-        return countries.contains(countrySide1) && !countries.contains(countrySide2) ||
-                !countries.contains(countrySide1) && countries.contains(countrySide2);
+        return isAreaBorder(line.getTerminal1().getVoltageLevel(), line.getTerminal2().getVoltageLevel());
     }
 
     private boolean isAreaBorder(HvdcLine hvdcLine) {
-        Country countrySide1 = hvdcLine.getConverterStation1().getTerminal().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null);
-        Country countrySide2 = hvdcLine.getConverterStation2().getTerminal().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null);
-        if (countrySide1 == null || countrySide2 == null) {
+        return isAreaBorder(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel(), hvdcLine.getConverterStation2().getTerminal().getVoltageLevel());
+    }
+
+    private boolean isAreaBorder(VoltageLevel voltageLevelSide1, VoltageLevel voltageLevelSide2) {
+        if (!hasCountry(voltageLevelSide1) || !hasCountry(voltageLevelSide2)) {
             return false;
         }
-        return countries.contains(countrySide1) && !countries.contains(countrySide2) ||
-                !countries.contains(countrySide1) && countries.contains(countrySide2);
+        return isInArea(voltageLevelSide1) != isInArea(voltageLevelSide2);
     }
 
     private double getLeavingFlow(DanglingLine danglingLine) {
@@ -115,13 +274,13 @@ public class CountryArea implements NetworkArea {
         double flowSide1 = line.getTerminal1().isConnected() && !Double.isNaN(line.getTerminal1().getP()) ? line.getTerminal1().getP() : 0;
         double flowSide2 = line.getTerminal2().isConnected() && !Double.isNaN(line.getTerminal2().getP()) ? line.getTerminal2().getP() : 0;
         double directFlow = (flowSide1 - flowSide2) / 2;
-        return countries.contains(line.getTerminal1().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null)) ? directFlow : -directFlow;
+        return isInArea(line.getTerminal1().getVoltageLevel()) ? directFlow : -directFlow;
     }
 
     private double getLeavingFlow(HvdcLine hvdcLine) {
         double flowSide1 = hvdcLine.getConverterStation1().getTerminal().isConnected() && !Double.isNaN(hvdcLine.getConverterStation1().getTerminal().getP()) ? hvdcLine.getConverterStation1().getTerminal().getP() : 0;
         double flowSide2 = hvdcLine.getConverterStation2().getTerminal().isConnected() && !Double.isNaN(hvdcLine.getConverterStation2().getTerminal().getP()) ? hvdcLine.getConverterStation2().getTerminal().getP() : 0;
         double directFlow = (flowSide1 - flowSide2) / 2;
-        return countries.contains(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null)) ? directFlow : -directFlow;
+        return isInArea(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel()) ? directFlow : -directFlow;
     }
 }
@@ -8,6 +8,8 @@ package com.powsybl.balances_adjustment.util;
 
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.VoltageLevel;
 
 import java.util.Arrays;
 import java.util.List;
@@ -17,7 +19,7 @@ import java.util.List;
  *
  * @author Mathieu Bague {@literal <mathieu.bague at rte-france.com>}
  */
-public class CountryAreaFactory implements NetworkAreaFactory {
+public class CountryAreaFactory implements IndexedNetworkAreaFactory {
 
     private final List<Country> countries;
 
@@ -25,8 +27,22 @@ public class CountryAreaFactory implements NetworkAreaFactory {
         this.countries = Arrays.asList(countries);
     }
 
+    List<Country> getCountries() {
+        return countries;
+    }
+
     @Override
     public CountryArea create(Network network) {
         return new CountryArea(network, countries);
     }
+
+    @Override
+    public boolean contains(VoltageLevel voltageLevel) {
+        return countries.contains(voltageLevel.getSubstation().map(Substation::getNullableCountry).orElse(null));
+    }
+
+    @Override
+    public CountryArea create(NetworkAreaIndex index, int areaId) {
+        return new CountryArea(index, areaId, countries);
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.iidm.network.VoltageLevel;
+
+/**
+ * Factory of network areas defined as sets of voltage levels, that can be described by a {@link NetworkAreaIndex}.
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public interface IndexedNetworkAreaFactory extends NetworkAreaFactory {
+
+    /**
+     * Country and voltage levels area factories are indexed from their countries and voltage level ids, without
+     * calling this method for each voltage level.
+     *
+     * @return Whether the given voltage level belongs to the areas created by this factory
+     */
+    boolean contains(VoltageLevel voltageLevel);
+
+    /**
+     * Create the area of the network of the given index, whose membership is read from the index.
+     */
+    NetworkArea create(NetworkAreaIndex index, int areaId);
+}
@@ -7,9 +7,14 @@
 package com.powsybl.balances_adjustment.util;
 
 import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Terminal;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
 
 /**
  * NetworkArea defines an area for balances adjustment as a net position provider, calculated on a Network object
@@ -31,4 +36,40 @@ public interface NetworkArea {
     default Collection<Bus> getContainedBusViewBuses() {
         return Collections.emptyList();
     }
+
+    /**
+     * Gives the loads connected to the bus view buses of the area. Areas caching their buses also cache their loads,
+     * and invalidate both at the same time.
+     *
+     * @return The loads of the area
+     */
+    default List<Load> getContainedLoads() {
+        return getContainedBusViewBuses().stream()
+                .flatMap(Bus::getConnectedTerminalStream)
+                .map(Terminal::getConnectable)
+                .filter(Load.class::isInstance)
+                .map(Load.class::cast)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Gives the elementary contributions to the net position of the area, typically one per border element.
+     * Their sum is equal to the net position, and each of them can be evaluated independently from the others,
+     * so that the net positions of several areas can be evaluated as a single flat task list.
+     *
+     * @return Suppliers of the flows leaving the area
+     */
+    default List<DoubleSupplier> getLeavingFlows() {
+        return Collections.singletonList(this::getNetPosition);
+    }
+
+    /**
+     * Gives the elements at the border of the area, with their orientation, as cached by the area.
+     * Areas that do not know their border elements give an empty list.
+     *
+     * @return The border elements of the area
+     */
+    default List<BorderElement> getBorderElements() {
+        return Collections.emptyList();
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Network-wide index giving the area of each voltage level, and thus of each bus and terminal, in constant time.
+ * <p>
+ *     The index is built once from the definitions of a set of non overlapping areas, identified by their index in
+ *     the list of area factories, in a single pass over the voltage levels: country and voltage levels areas are
+ *     looked up from their countries and voltage level ids, only other factories are asked for each voltage level.
+ *     Areas created from the index read their membership from it instead of walking voltage level, substation and
+ *     country chains, or searching lists of voltage level ids, for each element. The buses and the loads of all the
+ *     areas are found at once, in a single pass over the bus view of the network, on first use.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class NetworkAreaIndex {
+
+    public static final int NO_AREA = -1;
+
+    private final Network network;
+
+    private final int areaCount;
+
+    /**
+     * Area of each voltage level belonging to an area, by identity
+     */
+    private final Map<VoltageLevel, Integer> areaIds = new IdentityHashMap<>();
+
+    private final Set<VoltageLevel> voltageLevelsWithCountry = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Bus view buses of each area, indexed by area id, computed on first use only
+     */
+    private final Supplier<List<List<Bus>>> busesCache = Suppliers.memoize(this::findBuses);
+
+    /**
+     * Loads of each area, indexed by area id, computed on first use only
+     */
+    private final Supplier<List<List<Load>>> loadsCache = Suppliers.memoize(this::findLoads);
+
+    private NetworkAreaIndex(Network network, List<? extends IndexedNetworkAreaFactory> factories) {
+        this.network = network;
+        this.areaCount = factories.size();
+
+        // Areas defined by countries or voltage level ids are looked up, the other ones are asked for each voltage level
+        Map<Country, List<Integer>> areaIdsByCountry = new EnumMap<>(Country.class);
+        Map<String, List<Integer>> areaIdsByVoltageLevelId = new HashMap<>();
+        List<Integer> otherAreaIds = new ArrayList<>();
+        for (int areaId = 0; areaId < factories.size(); areaId++) {
+            IndexedNetworkAreaFactory factory = factories.get(areaId);
+            if (factory instanceof CountryAreaFactory) {
+                for (Country country : ((CountryAreaFactory) factory).getCountries()) {
+                    areaIdsByCountry.computeIfAbsent(country, c -> new ArrayList<>(1)).add(areaId);
+                }
+            } else if (factory instanceof VoltageLevelsAreaFactory) {
+                for (String voltageLevelId : ((VoltageLevelsAreaFactory) factory).getVoltageLevelIds()) {
+                    areaIdsByVoltageLevelId.computeIfAbsent(voltageLevelId, id -> new ArrayList<>(1)).add(areaId);
+                }
+            } else {
+                otherAreaIds.add(areaId);
+            }
+        }
+
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            Country country = voltageLevel.getSubstation().flatMap(Substation::getCountry).orElse(null);
+            if (country != null) {
+                voltageLevelsWithCountry.add(voltageLevel);
+            }
+            List<Integer> voltageLevelAreaIds = new ArrayList<>(1);
+            if (country != null) {
+                voltageLevelAreaIds.addAll(areaIdsByCountry.getOrDefault(country, Collections.emptyList()));
+            }
+            voltageLevelAreaIds.addAll(areaIdsByVoltageLevelId.getOrDefault(voltageLevel.getId(), Collections.emptyList()));
+            for (int areaId : otherAreaIds) {
+                if (factories.get(areaId).contains(voltageLevel)) {
+                    voltageLevelAreaIds.add(areaId);
+                }
+            }
+            if (voltageLevelAreaIds.size() > 1) {
+                Collections.sort(voltageLevelAreaIds);
+                throw new PowsyblException("Areas " + voltageLevelAreaIds.get(0) + " and " + voltageLevelAreaIds.get(1) + " cannot be indexed: voltage level "
+                        + voltageLevel.getId() + " belongs to both");
+            }
+            if (!voltageLevelAreaIds.isEmpty()) {
+                areaIds.put(voltageLevel, voltageLevelAreaIds.get(0));
+            }
+        }
+    }
+
+    /**
+     * Build the index of the areas created by the given factories, identified by their index in the list.
+     * Areas must not overlap.
+     */
+    public static NetworkAreaIndex build(Network network, List<? extends IndexedNetworkAreaFactory> factories) {
+        return new NetworkAreaIndex(Objects.requireNonNull(network), Objects.requireNonNull(factories));
+    }
+
+    /**
+     * @return The index of the areas created by the given factories, or an empty optional if some of them are not
+     * indexable or if areas overlap
+     */
+    public static Optional<NetworkAreaIndex> tryBuild(Network network, List<? extends NetworkAreaFactory> factories) {
+        Objects.requireNonNull(network);
+        List<IndexedNetworkAreaFactory> indexedFactories = new ArrayList<>(factories.size());
+        for (NetworkAreaFactory factory : factories) {
+            if (!(factory instanceof IndexedNetworkAreaFactory)) {
+                return Optional.empty();
+            }
+            indexedFactories.add((IndexedNetworkAreaFactory) factory);
+        }
+        try {
+            return Optional.of(new NetworkAreaIndex(network, indexedFactories));
+        } catch (PowsyblException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public int getAreaCount() {
+        return areaCount;
+    }
+
+    /**
+     * @return The id of the area the voltage level belongs to, or {@link #NO_AREA}
+     */
+    public int getAreaId(VoltageLevel voltageLevel) {
+        return areaIds.getOrDefault(voltageLevel, NO_AREA);
+    }
+
+    public int getAreaId(Terminal terminal) {
+        return getAreaId(terminal.getVoltageLevel());
+    }
+
+    public int getAreaId(Bus bus) {
+        return getAreaId(bus.getVoltageLevel());
+    }
+
+    /**
+     * @return Whether the voltage level is in a substation with a country
+     */
+    public boolean hasCountry(VoltageLevel voltageLevel) {
+        return voltageLevelsWithCountry.contains(voltageLevel);
+    }
+
+    /**
+     * @return The bus view buses of the area, as of the first call for any area of the index
+     */
+    public List<Bus> getBuses(int areaId) {
+        return busesCache.get().get(areaId);
+    }
+
+    /**
+     * @return The loads connected to the bus view buses of the area, as of the first call for any area of the index
+     */
+    public List<Load> getLoads(int areaId) {
+        return loadsCache.get().get(areaId);
+    }
+
+    private List<List<Bus>> findBuses() {
+        List<List<Bus>> buses = new ArrayList<>(areaCount);
+        for (int areaId = 0; areaId < areaCount; areaId++) {
+            buses.add(new ArrayList<>());
+        }
+        network.getBusView().getBuses().forEach(bus -> {
+            int areaId = getAreaId(bus);
+            if (areaId != NO_AREA) {
+                buses.get(areaId).add(bus);
+            }
+        });
+        return buses.stream().map(Collections::unmodifiableList).collect(Collectors.toList());
+    }
+
+    private List<List<Load>> findLoads() {
+        List<List<Load>> loads = new ArrayList<>(areaCount);
+        for (int areaId = 0; areaId < areaCount; areaId++) {
+            List<Load> areaLoads = new ArrayList<>();
+            getBuses(areaId).forEach(bus -> bus.getConnectedTerminalStream()
+                    .map(Terminal::getConnectable)
+                    .filter(Load.class::isInstance)
+                    .forEach(load -> areaLoads.add((Load) load)));
+            loads.add(Collections.unmodifiableList(areaLoads));
+        }
+        return loads;
+    }
+}
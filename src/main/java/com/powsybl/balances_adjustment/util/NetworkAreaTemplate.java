@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Definition of a network area compiled into ids, that can be bound to any network of the same grid model.
+ * <p>
+ *     The template holds the ids of the border elements of the area, with the weight of the flow of each of their
+ *     terminals in the net position, and the ids of the voltage levels or buses of the area. It is compiled once from
+ *     an area of a network, and binding it to another network, e.g. the same grid model at another timestamp, only
+ *     consists of id lookups, without any evaluation of the area definition on the whole network.
+ * </p>
+ *
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public final class NetworkAreaTemplate {
+
+    /**
+     * Terminal index of an entry standing for the boundary of a dangling line
+     */
+    private static final int BOUNDARY = -1;
+
+    private static final class Entry {
+
+        private final String connectableId;
+
+        private final int terminalIndex;
+
+        private final double weight;
+
+        private Entry(String connectableId, int terminalIndex, double weight) {
+            this.connectableId = connectableId;
+            this.terminalIndex = terminalIndex;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Collects the description of an area into a template
+     */
+    static final class Builder {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        private final List<Integer> elementStarts = new ArrayList<>();
+
+        private final List<String> elementIds = new ArrayList<>();
+
+        private final Set<String> voltageLevelIds = new LinkedHashSet<>();
+
+        private final Set<String> busIds = new LinkedHashSet<>();
+
+        /**
+         * Start the description of a new border element
+         */
+        Builder newElement(String elementId) {
+            elementStarts.add(entries.size());
+            elementIds.add(elementId);
+            return this;
+        }
+
+        /**
+         * Add a terminal of the current border element, whose flow contributes to the net position with the given weight
+         */
+        Builder addTerminal(Terminal terminal, double weight) {
+            Connectable<?> connectable = terminal.getConnectable();
+            entries.add(new Entry(connectable.getId(), connectable.getTerminals().indexOf(terminal), weight));
+            return this;
+        }
+
+        /**
+         * Add the boundary of a dangling line to the current border element, whose flow is leaving the area
+         */
+        Builder addBoundary(DanglingLine danglingLine) {
+            entries.add(new Entry(danglingLine.getId(), BOUNDARY, -1));
+            return this;
+        }
+
+        Builder addVoltageLevel(String voltageLevelId) {
+            voltageLevelIds.add(voltageLevelId);
+            return this;
+        }
+
+        Builder addBus(String busId) {
+            busIds.add(busId);
+            return this;
+        }
+    }
+
+    private final List<Entry> entries;
+
+    private final int[] elementStarts;
+
+    private final List<String> elementIds;
+
+    private final List<String> voltageLevelIds;
+
+    private final List<String> busIds;
+
+    private NetworkAreaTemplate(Builder builder) {
+        this.entries = new ArrayList<>(builder.entries);
+        this.elementStarts = new int[builder.elementStarts.size() + 1];
+        for (int k = 0; k < builder.elementStarts.size(); k++) {
+            elementStarts[k] = builder.elementStarts.get(k);
+        }
+        elementStarts[builder.elementStarts.size()] = entries.size();
+        this.elementIds = new ArrayList<>(builder.elementIds);
+        this.voltageLevelIds = new ArrayList<>(builder.voltageLevelIds);
+        this.busIds = new ArrayList<>(builder.busIds);
+    }
+
+    /**
+     * Compile the area created by the given factory on the given network.
+     */
+    public static NetworkAreaTemplate compile(Network network, NetworkAreaFactory factory) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(factory);
+        return compile(factory.create(network));
+    }
+
+    public static NetworkAreaTemplate compile(NetworkArea area) {
+        Objects.requireNonNull(area);
+        Builder builder = new Builder();
+        if (area instanceof CountryArea) {
+            ((CountryArea) area).compileMembership(builder);
+        } else if (area instanceof VoltageLevelsArea) {
+            ((VoltageLevelsArea) area).compileMembership(builder);
+        } else if (area instanceof BusSetArea) {
+            ((BusSetArea) area).compileMembership(builder);
+        } else if (!(area instanceof ControlArea)) {
+            throw new PowsyblException("Network area of type " + area.getClass().getSimpleName() + " cannot be compiled into a template");
+        }
+        for (BorderElement borderElement : area.getBorderElements()) {
+            builder.newElement(borderElement.getElement().getId());
+            Optional<Boundary> boundary = borderElement.getBoundary();
+            if (boundary.isPresent()) {
+                builder.addBoundary((DanglingLine) boundary.get().getConnectable());
+            } else {
+                List<Terminal> terminals = borderElement.getTerminals();
+                for (int i = 0; i < terminals.size(); i++) {
+                    builder.addTerminal(terminals.get(i), borderElement.getWeight(i));
+                }
+            }
+        }
+        return new NetworkAreaTemplate(builder);
+    }
+
+    public int getBorderElementCount() {
+        return elementStarts.length - 1;
+    }
+
+    /**
+     * Bind the template to a network of the same grid model. As for the areas the template is compiled from, voltage
+     * levels and buses of the template that are not found in the network are ignored.
+     *
+     * @throws PowsyblException if a border element of the template is not found in the network
+     */
+    public NetworkArea bind(Network network) {
+        Objects.requireNonNull(network);
+        return new BoundArea(network);
+    }
+
+    /**
+     * Factory binding the template to the networks it is given
+     */
+    public NetworkAreaFactory toFactory() {
+        return this::bind;
+    }
+
+    private final class BoundArea implements NetworkArea {
+
+        private final Terminal[] terminals;
+
+        private final Boundary[] boundaries;
+
+        private final Identifiable<?>[] elements;
+
+        private final Supplier<Collection<Bus>> busesCache;
+
+        private final Supplier<List<Load>> loadsCache = Suppliers.memoize(NetworkArea.super::getContainedLoads);
+
+        private BoundArea(Network network) {
+            terminals = new Terminal[entries.size()];
+            boundaries = new Boundary[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                Identifiable<?> identifiable = network.getIdentifiable(entry.connectableId);
+                if (!(identifiable instanceof Connectable)) {
+                    throw new PowsyblException("Border element " + entry.connectableId + " not found in network " + network.getId());
+                }
+                if (entry.terminalIndex == BOUNDARY) {
+                    boundaries[i] = ((DanglingLine) identifiable).getBoundary();
+                    terminals[i] = ((DanglingLine) identifiable).getTerminal();
+                } else {
+                    terminals[i] = ((Connectable<?>) identifiable).getTerminals().get(entry.terminalIndex);
+                }
+            }
+            elements = new Identifiable<?>[elementIds.size()];
+            for (int k = 0; k < elementIds.size(); k++) {
+                elements[k] = network.getIdentifiable(elementIds.get(k));
+                if (elements[k] == null) {
+                    throw new PowsyblException("Border element " + elementIds.get(k) + " not found in network " + network.getId());
+                }
+            }
+            List<VoltageLevel> voltageLevels = voltageLevelIds.stream()
+                    .map(network::getVoltageLevel)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            busesCache = Suppliers.memoize(() -> {
+                List<Bus> buses = new ArrayList<>();
+                voltageLevels.forEach(voltageLevel -> voltageLevel.getBusView().getBuses().forEach(buses::add));
+                busIds.stream().map(id -> network.getBusView().getBus(id)).filter(Objects::nonNull).forEach(buses::add);
+                return Collections.unmodifiableList(buses);
+            });
+        }
+
+        private double getWeightedFlow(int i) {
+            Terminal terminal = terminals[i];
+            if (!terminal.isConnected()) {
+                return 0;
+            }
+            double p = boundaries[i] != null ? boundaries[i].getP() : terminal.getP();
+            return Double.isNaN(p) ? 0 : entries.get(i).weight * p;
+        }
+
+        @Override
+        public double getNetPosition() {
+            double netPosition = 0;
+            for (int i = 0; i < terminals.length; i++) {
+                netPosition += getWeightedFlow(i);
+            }
+            return netPosition;
+        }
+
+        @Override
+        public List<DoubleSupplier> getLeavingFlows() {
+            List<DoubleSupplier> leavingFlows = new ArrayList<>(getBorderElementCount());
+            for (int k = 0; k < getBorderElementCount(); k++) {
+                int start = elementStarts[k];
+                int end = elementStarts[k + 1];
+                leavingFlows.add(() -> {
+                    double leavingFlow = 0;
+                    for (int i = start; i < end; i++) {
+                        leavingFlow += getWeightedFlow(i);
+                    }
+                    return leavingFlow;
+                });
+            }
+            return leavingFlows;
+        }
+
+        @Override
+        public List<BorderElement> getBorderElements() {
+            List<BorderElement> borderElements = new ArrayList<>(elements.length);
+            for (int k = 0; k < elements.length; k++) {
+                int start = elementStarts[k];
+                if (boundaries[start] != null) {
+                    borderElements.add(BorderElement.ofBoundary(elements[k], terminals[start], boundaries[start]));
+                } else {
+                    int end = elementStarts[k + 1];
+                    double[] weights = new double[end - start];
+                    for (int i = start; i < end; i++) {
+                        weights[i - start] = entries.get(i).weight;
+                    }
+                    borderElements.add(new BorderElement(elements[k], Arrays.asList(terminals).subList(start, end), weights));
+                }
+            }
+            return borderElements;
+        }
+
+        @Override
+        public Collection<Bus> getContainedBusViewBuses() {
+            return busesCache.get();
+        }
+
+        @Override
+        public List<Load> getContainedLoads() {
+            return loadsCache.get();
+        }
+    }
+}
@@ -8,12 +8,23 @@ package com.powsybl.balances_adjustment.util;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.modification.scalable.Scalable;
-import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Boundary;
 import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.extensions.LoadDetail;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author Miora Ralambotiana <miora.ralambotiana at rte-france.com>
@@ -25,26 +36,27 @@ public final class NetworkAreaUtil {
      * If no conform load is contained in the given network area, the ProportionalScalable contains all the loads contained in the given network area.
      * If no load is contained in the given network area, an exception is thrown.
      * If all selected load (conform or not) have a null p0, an exception is thrown.
+     * The loads of the area are the ones cached by the area, see {@link NetworkArea#getContainedLoads()}, e.g. found
+     * for all the areas at once by their {@link NetworkAreaIndex}, but the selection of the loads and their percentages
+     * are computed at each call, with the current p0 of the loads.
      */
     public static Scalable createConformLoadScalable(NetworkArea area) {
-        List<Load> loads = area.getContainedBusViewBuses().stream()
-                .flatMap(Bus::getConnectedTerminalStream)
-                .filter(t -> t.getConnectable() instanceof Load)
-                .map(t -> (Load) t.getConnectable())
-                .filter(load -> load.getP0() >= 0)
-                .filter(load -> load.getExtension(LoadDetail.class) != null && load.getExtension(LoadDetail.class).getVariableActivePower() != 0)
-                .collect(Collectors.toList());
-        if (loads.isEmpty()) {
-            loads = area.getContainedBusViewBuses().stream()
-                    .flatMap(Bus::getConnectedTerminalStream)
-                    .filter(t -> t.getConnectable() instanceof Load)
-                    .map(t -> (Load) t.getConnectable())
-                    .filter(load -> load.getP0() >= 0)
-                    .collect(Collectors.toList());
-            if (loads.isEmpty()) {
-                throw new PowsyblException("There is no load in this area");
+        Objects.requireNonNull(area);
+        List<Load> conformLoads = new ArrayList<>();
+        List<Load> allLoads = new ArrayList<>();
+        for (Load load : area.getContainedLoads()) {
+            if (load.getP0() >= 0) {
+                allLoads.add(load);
+                LoadDetail loadDetail = load.getExtension(LoadDetail.class);
+                if (loadDetail != null && loadDetail.getVariableActivePower() != 0) {
+                    conformLoads.add(load);
+                }
             }
         }
+        List<Load> loads = conformLoads.isEmpty() ? allLoads : conformLoads;
+        if (loads.isEmpty()) {
+            throw new PowsyblException("There is no load in this area");
+        }
         float totalP0 = (float) loads.stream().mapToDouble(Load::getP0).sum();
         if (totalP0 == 0.0) {
             throw new PowsyblException("All loads' active power flows is null"); // this case should never happen
@@ -53,6 +65,196 @@ public final class NetworkAreaUtil {
         return Scalable.proportional(percentages, loads.stream().map(inj -> (Scalable) Scalable.onLoad(inj.getId())).collect(Collectors.toList()));
     }
 
+    /**
+     * Create the network areas of several factories on a given network. If all the factories are indexable and their
+     * areas do not overlap, a single {@link NetworkAreaIndex} is built and shared by all the areas.
+     *
+     * @return The network areas, in the order of the given factories
+     */
+    public static List<NetworkArea> createNetworkAreas(Network network, List<? extends NetworkAreaFactory> factories) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(factories);
+        Optional<NetworkAreaIndex> index = NetworkAreaIndex.tryBuild(network, factories);
+        List<NetworkArea> areas = new ArrayList<>(factories.size());
+        for (int i = 0; i < factories.size(); i++) {
+            areas.add(index.isPresent() ? ((IndexedNetworkAreaFactory) factories.get(i)).create(index.get(), i) : factories.get(i).create(network));
+        }
+        return areas;
+    }
+
+    /**
+     * Compute the net positions of several network areas at once.
+     * The leaving flows of all the areas are evaluated as a single flat parallel task list, instead of area by area,
+     * then summed up per area in a deterministic order.
+     *
+     * @return The net positions, in the order of the given areas
+     */
+    public static double[] getNetPositions(List<? extends NetworkArea> areas) {
+        return getNetPositions(areas, chunks -> chunks.parallelStream().forEach(Runnable::run));
+    }
+
+    /**
+     * Compute the net positions of several network areas of a given network at once, see {@link #getNetPositions(List)}.
+     * If variant multi-thread access is allowed on the network, the flows are evaluated on the working variant of the
+     * calling thread by workers dedicated to the call, so that no thread outlives it with this variant as working variant.
+     *
+     * @return The net positions, in the order of the given areas
+     */
+    public static double[] getNetPositions(Network network, List<? extends NetworkArea> areas) {
+        VariantManager variantManager = network.getVariantManager();
+        if (!variantManager.isVariantMultiThreadAccessAllowed()) {
+            return getNetPositions(areas);
+        }
+        String workingVariantId = variantManager.getWorkingVariantId();
+        return getNetPositions(areas, chunks -> {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(chunks.size(), Runtime.getRuntime().availableProcessors())));
+            try {
+                CompletableFuture.allOf(chunks.stream()
+                        .map(chunk -> CompletableFuture.runAsync(() -> {
+                            variantManager.setWorkingVariant(workingVariantId);
+                            chunk.run();
+                        }, executor))
+                        .toArray(CompletableFuture<?>[]::new))
+                        .join();
+            } finally {
+                executor.shutdown();
+            }
+        });
+    }
+
+    private static double[] getNetPositions(List<? extends NetworkArea> areas, Consumer<List<Runnable>> chunksEvaluation) {
+        Objects.requireNonNull(areas);
+        List<DoubleSupplier> leavingFlows = new ArrayList<>();
+        int[] firstLeavingFlowIndexes = new int[areas.size() + 1];
+        for (int i = 0; i < areas.size(); i++) {
+            firstLeavingFlowIndexes[i] = leavingFlows.size();
+            leavingFlows.addAll(areas.get(i).getLeavingFlows());
+        }
+        firstLeavingFlowIndexes[areas.size()] = leavingFlows.size();
+
+        // Leaving flows are split in chunks, so that workers are initialized once per chunk and not once per flow
+        double[] leavingFlowValues = new double[leavingFlows.size()];
+        int chunkSize = Math.max(1, leavingFlows.size() / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        int chunkCount = (leavingFlows.size() + chunkSize - 1) / chunkSize;
+        List<Runnable> chunks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int start = chunk * chunkSize;
+            int end = Math.min(leavingFlows.size(), start + chunkSize);
+            chunks.add(() -> {
+                for (int i = start; i < end; i++) {
+                    leavingFlowValues[i] = leavingFlows.get(i).getAsDouble();
+                }
+            });
+        }
+        chunksEvaluation.accept(chunks);
+
+        double[] netPositions = new double[areas.size()];
+        for (int i = 0; i < areas.size(); i++) {
+            for (int j = firstLeavingFlowIndexes[i]; j < firstLeavingFlowIndexes[i + 1]; j++) {
+                netPositions[i] += leavingFlowValues[j];
+            }
+        }
+        return netPositions;
+    }
+
+    /**
+     * Compute the net positions of several network areas of a given network on several variants at once.
+     * The border elements of all the areas are walked once, and the flow of each distinct border terminal is read
+     * once per variant, so that the working variant is switched once per variant and not once per area. Areas that
+     * do not expose their border elements, and voltage levels areas evaluated from their injections, are evaluated
+     * with {@link NetworkArea#getNetPosition()}.
+     * If variant multi-thread access is allowed on the network, the variants are evaluated in parallel by workers
+     * dedicated to the call.
+     *
+     * @return The net positions, indexed by variant then by area, in the order of the given variants and areas
+     */
+    public static double[][] getNetPositions(Network network, List<? extends NetworkArea> areas, List<String> variantIds) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(areas);
+        Objects.requireNonNull(variantIds);
+
+        // Distinct flows, keyed by terminal or boundary, as neighbouring areas share their border terminals
+        Map<Object, Integer> flowIndexes = new IdentityHashMap<>();
+        List<DoubleSupplier> flows = new ArrayList<>();
+        int[][] areaFlowIndexes = new int[areas.size()][];
+        double[][] areaFlowWeights = new double[areas.size()][];
+        for (int i = 0; i < areas.size(); i++) {
+            NetworkArea area = areas.get(i);
+            List<BorderElement> borderElements = area.getBorderElements();
+            if (borderElements.isEmpty() || area instanceof VoltageLevelsArea && ((VoltageLevelsArea) area).isInjectionBased()) {
+                continue;
+            }
+            List<Integer> indexes = new ArrayList<>();
+            List<Double> weights = new ArrayList<>();
+            for (BorderElement borderElement : borderElements) {
+                Optional<Boundary> boundary = borderElement.getBoundary();
+                if (boundary.isPresent()) {
+                    Terminal terminal = borderElement.getTerminals().get(0);
+                    indexes.add(flowIndexes.computeIfAbsent(boundary.get(), key -> addFlow(flows, () -> getFlow(terminal, boundary.get().getP()))));
+                    weights.add(-1.);
+                } else {
+                    for (int j = 0; j < borderElement.getTerminals().size(); j++) {
+                        Terminal terminal = borderElement.getTerminals().get(j);
+                        indexes.add(flowIndexes.computeIfAbsent(terminal, key -> addFlow(flows, () -> getFlow(terminal, terminal.getP()))));
+                        weights.add(borderElement.getWeight(j));
+                    }
+                }
+            }
+            areaFlowIndexes[i] = indexes.stream().mapToInt(Integer::intValue).toArray();
+            areaFlowWeights[i] = weights.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        double[][] netPositions = new double[variantIds.size()][];
+        IntConsumer variantEvaluation = v -> {
+            variantManager.setWorkingVariant(variantIds.get(v));
+            double[] flowValues = new double[flows.size()];
+            for (int k = 0; k < flowValues.length; k++) {
+                flowValues[k] = flows.get(k).getAsDouble();
+            }
+            double[] variantNetPositions = new double[areas.size()];
+            for (int i = 0; i < areas.size(); i++) {
+                if (areaFlowIndexes[i] == null) {
+                    variantNetPositions[i] = areas.get(i).getNetPosition();
+                } else {
+                    for (int j = 0; j < areaFlowIndexes[i].length; j++) {
+                        variantNetPositions[i] += areaFlowWeights[i][j] * flowValues[areaFlowIndexes[i][j]];
+                    }
+                }
+            }
+            netPositions[v] = variantNetPositions;
+        };
+        if (variantManager.isVariantMultiThreadAccessAllowed() && variantIds.size() > 1) {
+            // Workers are dedicated to the call, so that no thread outlives it with one of the variants as working variant
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(variantIds.size(), Runtime.getRuntime().availableProcessors()));
+            try {
+                CompletableFuture.allOf(IntStream.range(0, variantIds.size())
+                        .mapToObj(v -> CompletableFuture.runAsync(() -> variantEvaluation.accept(v), executor))
+                        .toArray(CompletableFuture<?>[]::new))
+                        .join();
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            try {
+                IntStream.range(0, variantIds.size()).forEach(variantEvaluation);
+            } finally {
+                variantManager.setWorkingVariant(initialVariantId);
+            }
+        }
+        return netPositions;
+    }
+
+    private static int addFlow(List<DoubleSupplier> flows, DoubleSupplier flow) {
+        flows.add(flow);
+        return flows.size() - 1;
+    }
+
+    private static double getFlow(Terminal terminal, double p) {
+        return terminal.isConnected() && !Double.isNaN(p) ? p : 0;
+    }
+
     private NetworkAreaUtil() {
     }
 }
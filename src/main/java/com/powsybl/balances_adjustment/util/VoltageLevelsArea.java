@@ -6,9 +6,13 @@
  */
 package com.powsybl.balances_adjustment.util;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 
 import java.util.*;
+import java.util.function.DoubleSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -18,79 +22,343 @@ import java.util.stream.Collectors;
  */
 public class VoltageLevelsArea implements NetworkArea {
 
+    /**
+     * Method used to evaluate the net position of the area
+     */
+    public enum NetPositionEvaluation {
+        /**
+         * Sum of the flows leaving the area through its border elements
+         */
+        BORDER_FLOWS,
+        /**
+         * Opposite of the sum of the injections and of the losses of the internal elements of the area, i.e. the flows
+         * measured at the terminals of the border elements on the side of the area. Both evaluations only differ by
+         * half the losses of the border elements, so they are equal on DC loadflow results. Two windings transformers
+         * are not border elements: the flows of the ones crossing the border are counted as injections of the area.
+         */
+        INJECTIONS,
+        /**
+         * The evaluation reading the fewest terminals, given the sizes of the border and internal elements caches
+         */
+        AUTO
+    }
+
+    public static final NetPositionEvaluation DEFAULT_NET_POSITION_EVALUATION = NetPositionEvaluation.BORDER_FLOWS;
+
     private final List<String> voltageLevelIds = new ArrayList<>();
 
-    private final List<DanglingLine> danglingLineBordersCache;
-    private final List<Branch> branchBordersCache;
-    private final List<ThreeWindingsTransformer> threeWindingsTransformerBordersCache;
-    private final List<HvdcLine> hvdcLineBordersCache;
+    /**
+     * Index giving the membership of the voltage levels, or null if membership is read from the list of ids
+     */
+    private final NetworkAreaIndex index;
+    private final int areaId;
+
+    private final Network network;
+
+    /**
+     * Immutable lists, replaced when the area is maintained
+     */
+    private volatile List<DanglingLine> danglingLineBordersCache;
+    private volatile List<Branch> branchBordersCache;
+    private volatile List<ThreeWindingsTransformer> threeWindingsTransformerBordersCache;
+    private volatile List<HvdcLine> hvdcLineBordersCache;
+
+    /**
+     * Computed on first use only, as it requires the bus view of the whole network. Areas read from an index get
+     * their buses from it, as it finds the buses of all its areas at once.
+     */
+    private volatile Supplier<Set<Bus>> busesCache;
+
+    /**
+     * Loads of the buses of the area, invalidated together with the buses
+     */
+    private volatile Supplier<List<Load>> loadsCache;
+
+    /**
+     * Terminals of the injections and internal elements of the area, computed on first use of the injection-based
+     * evaluation only
+     */
+    private volatile Supplier<List<Terminal>> internalTerminalsCache;
+
+    private NetPositionEvaluation netPositionEvaluation = DEFAULT_NET_POSITION_EVALUATION;
 
-    private final Set<Bus> busesCache;
+    private NetworkListener maintenanceListener;
 
     public VoltageLevelsArea(Network network, List<String> voltageLevelIds) {
+        this(network, voltageLevelIds, null, NetworkAreaIndex.NO_AREA);
+    }
+
+    /**
+     * Create the area whose membership is read from the given index.
+     */
+    public VoltageLevelsArea(NetworkAreaIndex index, int areaId, List<String> voltageLevelIds) {
+        this(index.getNetwork(), voltageLevelIds, index, areaId);
+    }
+
+    private VoltageLevelsArea(Network network, List<String> voltageLevelIds, NetworkAreaIndex index, int areaId) {
         this.voltageLevelIds.addAll(voltageLevelIds);
+        this.index = index;
+        this.areaId = areaId;
+        this.network = network;
 
         danglingLineBordersCache = network.getDanglingLineStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
         branchBordersCache = network.getLineStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
         threeWindingsTransformerBordersCache = network.getThreeWindingsTransformerStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
         hvdcLineBordersCache = network.getHvdcLineStream()
                 .filter(this::isAreaBorder)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
+
+        busesCache = createBusesCache();
+        loadsCache = createLoadsCache();
+        internalTerminalsCache = createInternalTerminalsCache();
+    }
+
+    private Supplier<Set<Bus>> createBusesCache() {
+        if (index != null) {
+            return Suppliers.memoize(() -> Set.copyOf(index.getBuses(areaId)));
+        }
+        return Suppliers.memoize(() -> network.getBusView().getBusStream()
+                .filter(bus -> isInArea(bus.getVoltageLevel()))
+                .collect(Collectors.toSet()));
+    }
+
+    private Supplier<List<Load>> createLoadsCache() {
+        if (index != null) {
+            return () -> index.getLoads(areaId);
+        }
+        return Suppliers.memoize(NetworkArea.super::getContainedLoads);
+    }
+
+    private Supplier<List<Terminal>> createInternalTerminalsCache() {
+        return Suppliers.memoize(() -> {
+            Set<Connectable<?>> connectables = new LinkedHashSet<>();
+            network.getVoltageLevelStream()
+                    .filter(this::isInArea)
+                    .forEach(voltageLevel -> voltageLevel.getConnectables().forEach(connectables::add));
+            List<Terminal> terminals = new ArrayList<>();
+            for (Connectable<?> connectable : connectables) {
+                if (isInternal(connectable)) {
+                    terminals.addAll(connectable.getTerminals());
+                } else if (connectable instanceof TwoWindingsTransformer) {
+                    // Not a border element, so its flow is counted as an injection of the area, as with border flows
+                    connectable.getTerminals().stream().filter(this::isInArea).forEach(terminals::add);
+                }
+            }
+            return terminals;
+        });
+    }
+
+    public NetPositionEvaluation getNetPositionEvaluation() {
+        return netPositionEvaluation;
+    }
+
+    public VoltageLevelsArea setNetPositionEvaluation(NetPositionEvaluation netPositionEvaluation) {
+        this.netPositionEvaluation = Objects.requireNonNull(netPositionEvaluation);
+        return this;
+    }
+
+    /**
+     * Keep the border elements and the buses of the area up to date with the changes of the network, instead of
+     * rebuilding the area: border lists are replaced by updated copies when elements are created or removed, so that
+     * an evaluation in progress keeps reading the lists it started with.
+     * Maintenance must be stopped once the area is no longer used, so that the network does not keep it alive.
+     * Balance computations create their areas at each run: a maintained area is only reused if it is given to them
+     * by a factory returning it, e.g. {@code n -> area}.
+     */
+    public synchronized void startMaintenance() {
+        if (index != null) {
+            throw new PowsyblException("An area read from an index cannot be maintained incrementally");
+        }
+        if (maintenanceListener == null) {
+            maintenanceListener = new AbstractAreaMaintenanceListener() {
+                @Override
+                void onElementCreated(Identifiable<?> identifiable) {
+                    refreshBorder(identifiable);
+                    internalTerminalsCache = createInternalTerminalsCache();
+                }
+
+                @Override
+                void onElementRemoval(Identifiable<?> identifiable) {
+                    danglingLineBordersCache = AbstractAreaMaintenanceListener.remove(danglingLineBordersCache, identifiable);
+                    branchBordersCache = AbstractAreaMaintenanceListener.remove(branchBordersCache, identifiable);
+                    threeWindingsTransformerBordersCache = AbstractAreaMaintenanceListener.remove(threeWindingsTransformerBordersCache, identifiable);
+                    hvdcLineBordersCache = AbstractAreaMaintenanceListener.remove(hvdcLineBordersCache, identifiable);
+                    internalTerminalsCache = createInternalTerminalsCache();
+                }
+
+                @Override
+                void onTopologyChanged() {
+                    busesCache = createBusesCache();
+                    loadsCache = createLoadsCache();
+                }
+            };
+            network.addListener(maintenanceListener);
+        }
+    }
+
+    public synchronized void stopMaintenance() {
+        if (maintenanceListener != null) {
+            network.removeListener(maintenanceListener);
+            maintenanceListener = null;
+        }
+    }
 
-        busesCache = network.getBusView().getBusStream()
-                .filter(bus -> voltageLevelIds.contains(bus.getVoltageLevel().getId()))
-                .collect(Collectors.toSet());
+    private void refreshBorder(Identifiable<?> identifiable) {
+        if (identifiable instanceof DanglingLine) {
+            danglingLineBordersCache = AbstractAreaMaintenanceListener.refresh(danglingLineBordersCache,
+                    (DanglingLine) identifiable, isAreaBorder((DanglingLine) identifiable));
+        } else if (identifiable instanceof Line) {
+            branchBordersCache = AbstractAreaMaintenanceListener.refresh(branchBordersCache,
+                    (Branch) identifiable, isAreaBorder((Line) identifiable));
+        } else if (identifiable instanceof ThreeWindingsTransformer) {
+            threeWindingsTransformerBordersCache = AbstractAreaMaintenanceListener.refresh(threeWindingsTransformerBordersCache,
+                    (ThreeWindingsTransformer) identifiable, isAreaBorder((ThreeWindingsTransformer) identifiable));
+        } else if (identifiable instanceof HvdcLine) {
+            hvdcLineBordersCache = AbstractAreaMaintenanceListener.refresh(hvdcLineBordersCache,
+                    (HvdcLine) identifiable, isAreaBorder((HvdcLine) identifiable));
+        }
     }
 
     @Override
     public double getNetPosition() {
+        if (isInjectionBased()) {
+            return getNetPositionFromInjections();
+        }
         return danglingLineBordersCache.parallelStream().mapToDouble(this::getLeavingFlow).sum()
                 + branchBordersCache.parallelStream().mapToDouble(this::getLeavingFlow).sum()
                 + threeWindingsTransformerBordersCache.parallelStream().mapToDouble(this::getLeavingFlow).sum()
                 + hvdcLineBordersCache.parallelStream().mapToDouble(this::getLeavingFlow).sum();
     }
 
+    /**
+     * Whether the net position is evaluated from the injections of the area
+     */
+    boolean isInjectionBased() {
+        switch (netPositionEvaluation) {
+            case INJECTIONS:
+                return true;
+            case AUTO:
+                int borderTerminalCount = danglingLineBordersCache.size() + 2 * branchBordersCache.size()
+                        + 3 * threeWindingsTransformerBordersCache.size() + 2 * hvdcLineBordersCache.size();
+                return internalTerminalsCache.get().size() < borderTerminalCount;
+            default:
+                return false;
+        }
+    }
+
+    private double getNetPositionFromInjections() {
+        double netPosition = 0;
+        for (Terminal terminal : internalTerminalsCache.get()) {
+            if (terminal.isConnected() && !Double.isNaN(terminal.getP())) {
+                netPosition -= terminal.getP();
+            }
+        }
+        return netPosition;
+    }
+
+    /**
+     * The net position of an area evaluated from its injections is a single leaving flow.
+     */
+    @Override
+    public List<DoubleSupplier> getLeavingFlows() {
+        if (isInjectionBased()) {
+            return Collections.singletonList(this::getNetPositionFromInjections);
+        }
+        List<DoubleSupplier> leavingFlows = new ArrayList<>(danglingLineBordersCache.size() + branchBordersCache.size()
+                + threeWindingsTransformerBordersCache.size() + hvdcLineBordersCache.size());
+        danglingLineBordersCache.forEach(danglingLine -> leavingFlows.add(() -> getLeavingFlow(danglingLine)));
+        branchBordersCache.forEach(branch -> leavingFlows.add(() -> getLeavingFlow(branch)));
+        threeWindingsTransformerBordersCache.forEach(threeWindingsTransformer -> leavingFlows.add(() -> getLeavingFlow(threeWindingsTransformer)));
+        hvdcLineBordersCache.forEach(hvdcLine -> leavingFlows.add(() -> getLeavingFlow(hvdcLine)));
+        return leavingFlows;
+    }
+
     @Override
     public Collection<Bus> getContainedBusViewBuses() {
-        return Collections.unmodifiableCollection(busesCache);
+        return Collections.unmodifiableCollection(busesCache.get());
+    }
+
+    @Override
+    public List<Load> getContainedLoads() {
+        return loadsCache.get();
+    }
+
+    @Override
+    public List<BorderElement> getBorderElements() {
+        List<BorderElement> borderElements = new ArrayList<>(danglingLineBordersCache.size() + branchBordersCache.size()
+                + threeWindingsTransformerBordersCache.size() + hvdcLineBordersCache.size());
+        danglingLineBordersCache.forEach(danglingLine -> borderElements.add(new BorderElement(danglingLine, List.of(danglingLine.getTerminal()), new double[] {1})));
+        branchBordersCache.forEach(branch -> borderElements.add(createBorderElement(branch, branch.getTerminal1(), branch.getTerminal2())));
+        threeWindingsTransformerBordersCache.forEach(twt -> borderElements.add(createBorderElement(twt,
+                twt.getLeg1().getTerminal(), twt.getLeg2().getTerminal(), twt.getLeg3().getTerminal())));
+        hvdcLineBordersCache.forEach(hvdcLine -> borderElements.add(createBorderElement(hvdcLine,
+                hvdcLine.getConverterStation1().getTerminal(), hvdcLine.getConverterStation2().getTerminal())));
+        return borderElements;
+    }
+
+    private BorderElement createBorderElement(Identifiable<?> element, Terminal... terminals) {
+        double[] weights = new double[terminals.length];
+        for (int i = 0; i < terminals.length; i++) {
+            weights[i] = isInArea(terminals[i]) ? 0.5 : -0.5;
+        }
+        return new BorderElement(element, Arrays.asList(terminals), weights);
+    }
+
+    void compileMembership(NetworkAreaTemplate.Builder builder) {
+        voltageLevelIds.forEach(builder::addVoltageLevel);
+    }
+
+    private boolean isInArea(VoltageLevel voltageLevel) {
+        if (index != null) {
+            return index.getAreaId(voltageLevel) == areaId;
+        }
+        return voltageLevelIds.contains(voltageLevel.getId());
+    }
+
+    private boolean isInArea(Terminal terminal) {
+        return isInArea(terminal.getVoltageLevel());
+    }
+
+    /**
+     * Whether the flows of all the terminals of the connectable are balanced by the buses of the area, i.e. the
+     * connectable is neither a border element nor a busbar section
+     */
+    private boolean isInternal(Connectable<?> connectable) {
+        if (connectable instanceof BusbarSection || connectable instanceof DanglingLine) {
+            return false;
+        }
+        if (connectable instanceof HvdcConverterStation) {
+            HvdcLine hvdcLine = ((HvdcConverterStation<?>) connectable).getHvdcLine();
+            return hvdcLine == null || !isAreaBorder(hvdcLine);
+        }
+        return connectable.getTerminals().stream().allMatch(this::isInArea);
     }
 
     private boolean isAreaBorder(DanglingLine danglingLine) {
-        String voltageLevel = danglingLine.getTerminal().getVoltageLevel().getId();
-        return voltageLevelIds.contains(voltageLevel);
+        return isInArea(danglingLine.getTerminal());
     }
 
     private boolean isAreaBorder(Line line) {
-        String voltageLevelSide1 = line.getTerminal1().getVoltageLevel().getId();
-        String voltageLevelSide2 = line.getTerminal2().getVoltageLevel().getId();
-        return voltageLevelIds.contains(voltageLevelSide1) && !voltageLevelIds.contains(voltageLevelSide2) ||
-                !voltageLevelIds.contains(voltageLevelSide1) && voltageLevelIds.contains(voltageLevelSide2);
+        return isInArea(line.getTerminal1()) != isInArea(line.getTerminal2());
     }
 
     private boolean isAreaBorder(ThreeWindingsTransformer threeWindingsTransformer) {
-        String voltageLevelSide1 = threeWindingsTransformer.getLeg1().getTerminal().getVoltageLevel().getId();
-        String voltageLevelSide2 = threeWindingsTransformer.getLeg2().getTerminal().getVoltageLevel().getId();
-        String voltageLevelSide3 = threeWindingsTransformer.getLeg3().getTerminal().getVoltageLevel().getId();
-        boolean containsOne = voltageLevelIds.contains(voltageLevelSide1) ||
-                voltageLevelIds.contains(voltageLevelSide2) ||
-                voltageLevelIds.contains(voltageLevelSide3);
-        boolean containsAll = voltageLevelIds.contains(voltageLevelSide1) &&
-                voltageLevelIds.contains(voltageLevelSide2) &&
-                voltageLevelIds.contains(voltageLevelSide3);
+        boolean inAreaSide1 = isInArea(threeWindingsTransformer.getLeg1().getTerminal());
+        boolean inAreaSide2 = isInArea(threeWindingsTransformer.getLeg2().getTerminal());
+        boolean inAreaSide3 = isInArea(threeWindingsTransformer.getLeg3().getTerminal());
+        boolean containsOne = inAreaSide1 || inAreaSide2 || inAreaSide3;
+        boolean containsAll = inAreaSide1 && inAreaSide2 && inAreaSide3;
         return containsOne && !containsAll;
     }
 
     private boolean isAreaBorder(HvdcLine hvdcLine) {
-        String voltageLevelSide1 = hvdcLine.getConverterStation1().getTerminal().getVoltageLevel().getId();
-        String voltageLevelSide2 = hvdcLine.getConverterStation2().getTerminal().getVoltageLevel().getId();
-        return voltageLevelIds.contains(voltageLevelSide1) && !voltageLevelIds.contains(voltageLevelSide2) ||
-                !voltageLevelIds.contains(voltageLevelSide1) && voltageLevelIds.contains(voltageLevelSide2);
+        return isInArea(hvdcLine.getConverterStation1().getTerminal()) != isInArea(hvdcLine.getConverterStation2().getTerminal());
     }
 
     private double getLeavingFlow(DanglingLine danglingLine) {
@@ -101,24 +369,28 @@ public class VoltageLevelsArea implements NetworkArea {
         double flowSide1 = branch.getTerminal1().isConnected() ? branch.getTerminal1().getP() : 0;
         double flowSide2 = branch.getTerminal2().isConnected() ? branch.getTerminal2().getP() : 0;
         double directFlow = (flowSide1 - flowSide2) / 2;
-        return voltageLevelIds.contains(branch.getTerminal1().getVoltageLevel().getId()) ? directFlow : -directFlow;
+        return isInArea(branch.getTerminal1()) ? directFlow : -directFlow;
     }
 
     private double getLeavingFlow(HvdcLine hvdcLine) {
         double flowSide1 = hvdcLine.getConverterStation1().getTerminal().isConnected() ? hvdcLine.getConverterStation1().getTerminal().getP() : 0;
         double flowSide2 = hvdcLine.getConverterStation2().getTerminal().isConnected() ? hvdcLine.getConverterStation2().getTerminal().getP() : 0;
         double directFlow = (flowSide1 - flowSide2) / 2;
-        return voltageLevelIds.contains(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel().getId()) ? directFlow : -directFlow;
+        return isInArea(hvdcLine.getConverterStation1().getTerminal()) ? directFlow : -directFlow;
     }
 
     private double getLeavingFlow(ThreeWindingsTransformer threeWindingsTransformer) {
         double outsideFlow = 0;
         double insideFlow = 0;
         for (ThreeWindingsTransformer.Side side : ThreeWindingsTransformer.Side.values()) {
-            outsideFlow += !voltageLevelIds.contains(threeWindingsTransformer.getTerminal(side).getVoltageLevel().getId()) && threeWindingsTransformer.getTerminal(side).isConnected()
-                    ? threeWindingsTransformer.getTerminal(side).getP() : 0;
-            insideFlow += voltageLevelIds.contains(threeWindingsTransformer.getTerminal(side).getVoltageLevel().getId()) && threeWindingsTransformer.getTerminal(side).isConnected()
-                    ? threeWindingsTransformer.getTerminal(side).getP() : 0;
+            Terminal terminal = threeWindingsTransformer.getTerminal(side);
+            if (terminal.isConnected()) {
+                if (isInArea(terminal)) {
+                    insideFlow += terminal.getP();
+                } else {
+                    outsideFlow += terminal.getP();
+                }
+            }
         }
         return (insideFlow - outsideFlow) / 2;
     }
@@ -7,25 +7,48 @@
 package com.powsybl.balances_adjustment.util;
 
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A {@link NetworkAreaFactory} instance that creates new {@link VoltageLevelsArea}.
  *
  * @author Mathieu Bague {@literal <mathieu.bague at rte-france.com>}
  */
-public class VoltageLevelsAreaFactory implements NetworkAreaFactory {
+public class VoltageLevelsAreaFactory implements IndexedNetworkAreaFactory {
 
     private final List<String> voltageLevelIds;
 
+    private VoltageLevelsArea.NetPositionEvaluation netPositionEvaluation = VoltageLevelsArea.DEFAULT_NET_POSITION_EVALUATION;
+
     public VoltageLevelsAreaFactory(String... voltageLevelIds) {
         this.voltageLevelIds = Arrays.asList(voltageLevelIds);
     }
 
+    public VoltageLevelsAreaFactory setNetPositionEvaluation(VoltageLevelsArea.NetPositionEvaluation netPositionEvaluation) {
+        this.netPositionEvaluation = Objects.requireNonNull(netPositionEvaluation);
+        return this;
+    }
+
+    List<String> getVoltageLevelIds() {
+        return voltageLevelIds;
+    }
+
     @Override
     public VoltageLevelsArea create(Network network) {
-        return new VoltageLevelsArea(network, voltageLevelIds);
+        return new VoltageLevelsArea(network, voltageLevelIds).setNetPositionEvaluation(netPositionEvaluation);
+    }
+
+    @Override
+    public boolean contains(VoltageLevel voltageLevel) {
+        return voltageLevelIds.contains(voltageLevel.getId());
+    }
+
+    @Override
+    public VoltageLevelsArea create(NetworkAreaIndex index, int areaId) {
+        return new VoltageLevelsArea(index, areaId, voltageLevelIds).setNetPositionEvaluation(netPositionEvaluation);
     }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.balances_adjustment.util.CountryAreaTest;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BalanceComputationBatchTest {
+
+    private static final String INITIAL_STATE = "InitialState";
+
+    private Network simpleNetwork;
+    private BalanceComputationParameters parameters;
+    private BalanceComputationBatch batch;
+
+    @Before
+    public void setUp() {
+        simpleNetwork = Network.read("testSimpleNetwork.xiidm", CountryAreaTest.class.getResourceAsStream("/testSimpleNetwork.xiidm"));
+        parameters = new BalanceComputationParameters();
+        parameters.getLoadFlowParameters().setDc(true);
+        batch = new BalanceComputationBatch(LocalComputationManager.getDefault(), new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory())));
+    }
+
+    private BalanceComputationBatch.Scenario createScenario(double targetFr, String variantId) {
+        simpleNetwork.getVariantManager().cloneVariant(INITIAL_STATE, variantId);
+        // Scalables are not shared by the scenarios, as they are run concurrently
+        Scalable scalableFR = Scalable.proportional(Arrays.asList(60f, 40f), Arrays.asList(Scalable.onGenerator("GENERATOR_FR"), Scalable.onLoad("LOAD_FR")));
+        Scalable scalableBE = Scalable.proportional(Arrays.asList(60f, 40f), Arrays.asList(Scalable.onGenerator("GENERATOR_BE"), Scalable.onLoad("LOAD_BE")));
+        return new BalanceComputationBatch.Scenario(Arrays.asList(
+                new BalanceComputationArea("FR", new CountryAreaFactory(Country.FR), scalableFR, targetFr),
+                new BalanceComputationArea("BE", new CountryAreaFactory(Country.BE), scalableBE, -targetFr)), variantId);
+    }
+
+    @Test
+    public void testConcurrentScenarios() {
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(true);
+        double[] targets = {1300, 1250, 1200, 1150};
+        List<BalanceComputationBatch.Scenario> scenarios = new ArrayList<>();
+        for (int k = 0; k < targets.length; k++) {
+            scenarios.add(createScenario(targets[k], "Scenario" + k));
+        }
+        batch.setConcurrency(4).setMaxScratchVariants(5);
+        assertEquals(2, batch.getWorkerCount(simpleNetwork));
+
+        List<BalanceComputationResult> results = batch.run(simpleNetwork, scenarios, parameters).join();
+
+        assertEquals(targets.length, results.size());
+        // Net positions of country areas are evaluated in parallel on the working variant of the calling thread
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(false);
+        for (int k = 0; k < targets.length; k++) {
+            assertEquals(BalanceComputationResult.Status.SUCCESS, results.get(k).getStatus());
+            simpleNetwork.getVariantManager().setWorkingVariant("Scenario" + k);
+            assertEquals(targets[k], new CountryAreaFactory(Country.FR).create(simpleNetwork).getNetPosition(), parameters.getThresholdNetPosition());
+        }
+        // Scratch variants are removed once the batch is done
+        assertEquals(targets.length + 1, simpleNetwork.getVariantManager().getVariantIds().size());
+    }
+
+    @Test
+    public void testNoVariantCreatedDuringRuns() {
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(true);
+        List<BalanceComputationBatch.Scenario> scenarios = new ArrayList<>();
+        for (int k = 0; k < 6; k++) {
+            scenarios.add(createScenario(1300 - 10 * k, "Scenario" + k));
+        }
+        // Number of variants seen by each loadflow, while other workers may be running
+        List<Integer> variantCounts = Collections.synchronizedList(new ArrayList<>());
+        LoadFlow.Runner loadFlowRunner = Mockito.spy(new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory())));
+        Mockito.doAnswer(invocation -> {
+            variantCounts.add(simpleNetwork.getVariantManager().getVariantIds().size());
+            return invocation.callRealMethod();
+        }).when(loadFlowRunner).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+        BalanceComputationBatch concurrentBatch = new BalanceComputationBatch(LocalComputationManager.getDefault(), loadFlowRunner)
+                .setConcurrency(3)
+                .setMaxScratchVariants(6);
+
+        List<BalanceComputationResult> results = concurrentBatch.run(simpleNetwork, scenarios, parameters).join();
+
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == BalanceComputationResult.Status.SUCCESS));
+        // Initial variant, scenario variants and the scratch variants of the three workers, created before any run
+        assertEquals(Collections.singleton(1 + 6 + 6), new HashSet<>(variantCounts));
+    }
+
+    @Test
+    public void testSequentialWithoutMultiThreadAccess() {
+        List<BalanceComputationBatch.Scenario> scenarios = Arrays.asList(createScenario(1300, "Scenario0"), createScenario(1250, "Scenario1"));
+        assertEquals(1, batch.getWorkerCount(simpleNetwork));
+
+        List<BalanceComputationResult> results = batch.run(simpleNetwork, scenarios, parameters).join();
+
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == BalanceComputationResult.Status.SUCCESS));
+        assertEquals(new HashSet<>(Arrays.asList(INITIAL_STATE, "Scenario0", "Scenario1")), new HashSet<>(simpleNetwork.getVariantManager().getVariantIds()));
+        // The working variant of the caller is kept
+        assertEquals(INITIAL_STATE, simpleNetwork.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    public void testStreaming() {
+        int scenarioCount = 6;
+        int[] maxVariantCount = {0};
+        Iterator<BalanceComputationBatch.Scenario> scenarios = new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < scenarioCount;
+            }
+
+            @Override
+            public BalanceComputationBatch.Scenario next() {
+                maxVariantCount[0] = Math.max(maxVariantCount[0], simpleNetwork.getVariantManager().getVariantIds().size());
+                return createScenario(1300 - 10 * next, "Scenario" + next++);
+            }
+        };
+        List<Integer> indexes = new ArrayList<>();
+        int count = batch.run(simpleNetwork, scenarios, parameters, (index, scenario, result) -> {
+            assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+            indexes.add(index);
+            simpleNetwork.getVariantManager().removeVariant(scenario.getWorkingStateId());
+        });
+
+        assertEquals(scenarioCount, count);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), indexes);
+        // Initial variant and the two scratch variants of the pool: scenario variants are removed as soon as they are done
+        assertEquals(3, maxVariantCount[0]);
+        assertEquals(Collections.singletonList(INITIAL_STATE), new ArrayList<>(simpleNetwork.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    public void testConcurrentStreaming() {
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(true);
+        int scenarioCount = 7;
+        Iterator<BalanceComputationBatch.Scenario> scenarios = new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < scenarioCount;
+            }
+
+            @Override
+            public BalanceComputationBatch.Scenario next() {
+                return createScenario(1300 - 10 * next, "Scenario" + next++);
+            }
+        };
+        List<Integer> indexes = new ArrayList<>();
+        batch.setConcurrency(3).setMaxScratchVariants(6);
+        int count = batch.run(simpleNetwork, scenarios, parameters, (index, scenario, result) -> {
+            assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+            indexes.add(index);
+            simpleNetwork.getVariantManager().removeVariant(scenario.getWorkingStateId());
+        });
+
+        assertEquals(scenarioCount, count);
+        // Results are given to the sink in the order of completion
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4, 5, 6)), new HashSet<>(indexes));
+        assertEquals(scenarioCount, indexes.size());
+        assertEquals(Collections.singletonList(INITIAL_STATE), new ArrayList<>(simpleNetwork.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    public void testStreamingStraggler() {
+        List<BalanceComputationBatch.Scenario> scenarios = new ArrayList<>();
+        // The first scenario cannot be balanced, as its scalable does not scale anything: it runs all the iterations
+        simpleNetwork.getVariantManager().cloneVariant(INITIAL_STATE, "Scenario0");
+        scenarios.add(new BalanceComputationBatch.Scenario(Arrays.asList(
+                new BalanceComputationArea("FR", new CountryAreaFactory(Country.FR), Scalable.onGenerator("UNKNOWN_GENERATOR"), 1300),
+                new BalanceComputationArea("BE", new CountryAreaFactory(Country.BE), Scalable.onGenerator("UNKNOWN_GENERATOR"), -1300)), "Scenario0"));
+        for (int k = 1; k < 6; k++) {
+            scenarios.add(createScenario(1300 - 10 * k, "Scenario" + k));
+        }
+        parameters.setMaxNumberIterations(10);
+        // Its loadflows, marked by the reactive power of a load, are slow too
+        simpleNetwork.getVariantManager().setWorkingVariant("Scenario0");
+        simpleNetwork.getLoad("LOAD_FR").setQ0(1);
+        simpleNetwork.getVariantManager().setWorkingVariant(INITIAL_STATE);
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(true);
+        LoadFlow.Runner loadFlowRunner = Mockito.spy(new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory())));
+        Mockito.doAnswer(invocation -> {
+            if (simpleNetwork.getLoad("LOAD_FR").getQ0() == 1) {
+                Thread.sleep(50);
+            }
+            return invocation.callRealMethod();
+        }).when(loadFlowRunner).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+        BalanceComputationBatch concurrentBatch = new BalanceComputationBatch(LocalComputationManager.getDefault(), loadFlowRunner)
+                .setConcurrency(3)
+                .setMaxScratchVariants(6);
+
+        // Scenarios pulled from the iterator and results given to the sink, in the order of the calls
+        List<String> events = new ArrayList<>();
+        Iterator<BalanceComputationBatch.Scenario> iterator = scenarios.iterator();
+        Iterator<BalanceComputationBatch.Scenario> scenarioIterator = new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BalanceComputationBatch.Scenario next() {
+                events.add("pull " + next++);
+                return iterator.next();
+            }
+        };
+        concurrentBatch.run(simpleNetwork, scenarioIterator, parameters, (index, scenario, result) -> {
+            assertEquals(index == 0 ? BalanceComputationResult.Status.FAILED : BalanceComputationResult.Status.SUCCESS, result.getStatus());
+            events.add("result " + index);
+        });
+
+        // Results of the other scenarios are given to the sink, and next scenarios are pulled, before the straggler completes
+        assertEquals(2 * scenarios.size(), events.size());
+        assertTrue(events.indexOf("result 1") < events.indexOf("result 0"));
+        assertTrue(events.indexOf("result 2") < events.indexOf("result 0"));
+        assertTrue(events.indexOf("pull 3") < events.indexOf("result 0"));
+    }
+
+    @Test
+    public void testStreamingIteratorFailure() {
+        Iterator<BalanceComputationBatch.Scenario> scenarios = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public BalanceComputationBatch.Scenario next() {
+                throw new PowsyblException("Iterator failure");
+            }
+        };
+        PowsyblException e = assertThrows(PowsyblException.class, () -> batch.run(simpleNetwork, scenarios, parameters, (index, scenario, result) -> { }));
+        assertEquals("Iterator failure", e.getMessage());
+        assertEquals(Collections.singletonList(INITIAL_STATE), new ArrayList<>(simpleNetwork.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    public void testStreamingFailure() {
+        Iterator<BalanceComputationBatch.Scenario> scenarios = Arrays.asList(createScenario(1300, "Scenario0"), createScenario(1250, "Scenario1")).iterator();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> batch.run(simpleNetwork, scenarios, parameters, (index, scenario, result) -> {
+            throw new PowsyblException("Sink failure");
+        }));
+        assertEquals("Sink failure", e.getMessage());
+        assertTrue(scenarios.hasNext());
+        assertEquals(3, simpleNetwork.getVariantManager().getVariantIds().size());
+    }
+
+    @Test
+    public void testInvalidBatch() {
+        List<BalanceComputationBatch.Scenario> scenarios = Arrays.asList(createScenario(1300, "Scenario0"),
+                new BalanceComputationBatch.Scenario(Collections.emptyList(), "Scenario0"));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> batch.run(simpleNetwork, scenarios, parameters));
+        assertEquals("Several scenarios work on variant Scenario0", e.getMessage());
+
+        e = assertThrows(PowsyblException.class, () -> batch.setMaxScratchVariants(1));
+        assertEquals("At least 2 scratch variants are needed by a run", e.getMessage());
+        e = assertThrows(PowsyblException.class, () -> batch.setConcurrency(0));
+        assertEquals("Concurrency must be at least 1", e.getMessage());
+    }
+}
@@ -18,6 +18,7 @@ import com.powsybl.openloadflow.OpenLoadFlowProvider;
 import com.powsybl.math.matrix.DenseMatrixFactory;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.util.*;
 
@@ -148,4 +149,47 @@ public class BalanceComputationImplDcTest {
         assertEquals(2, result.getIterationCount());
 
     }
+
+    @Test
+    public void testReuseInitialFlows() {
+        parameters.setReuseInitialFlows(true);
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1200.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, 1300.));
+
+        LoadFlow.Runner loadFlowRunnerSpy = Mockito.spy(loadFlowRunner);
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunnerSpy, computationManager);
+
+        BalanceComputationResult result = balanceComputation.run(testNetwork1, testNetwork1.getVariantManager().getWorkingVariantId(), parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(2, result.getIterationCount());
+        Mockito.verify(loadFlowRunnerSpy, Mockito.times(1)).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testReuseInitialFlowsWithoutFlows() {
+        parameters.setReuseInitialFlows(true);
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1200.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, 1300.));
+
+        // Variant that has never been computed
+        String noFlowsStateId = "NoFlowsStateId";
+        testNetwork1.getVariantManager().cloneVariant(testNetwork1.getVariantManager().getWorkingVariantId(), noFlowsStateId);
+        testNetwork1.getVariantManager().setWorkingVariant(noFlowsStateId);
+        testNetwork1.getBranchStream().forEach(branch -> {
+            branch.getTerminal1().setP(Double.NaN);
+            branch.getTerminal2().setP(Double.NaN);
+        });
+
+        LoadFlow.Runner loadFlowRunnerSpy = Mockito.spy(loadFlowRunner);
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunnerSpy, computationManager);
+
+        BalanceComputationResult result = balanceComputation.run(testNetwork1, noFlowsStateId, parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(2, result.getIterationCount());
+        Mockito.verify(loadFlowRunnerSpy, Mockito.times(2)).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
 }
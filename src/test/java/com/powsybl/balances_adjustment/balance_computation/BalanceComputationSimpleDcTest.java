@@ -8,6 +8,8 @@ package com.powsybl.balances_adjustment.balance_computation;
 
 import com.powsybl.balances_adjustment.util.CountryAreaFactory;
 import com.powsybl.balances_adjustment.util.CountryAreaTest;
+import com.powsybl.balances_adjustment.util.NetworkArea;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.iidm.modification.scalable.Scalable;
@@ -21,9 +23,10 @@ import org.mockito.Mockito;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -91,6 +94,7 @@ public class BalanceComputationSimpleDcTest {
 
         assertEquals(BalanceComputationResult.Status.FAILED, result.getStatus());
         assertEquals(0, result.getIterationCount());
+        assertEquals(Collections.singleton(initialState), new HashSet<>(simpleNetwork.getVariantManager().getVariantIds()));
     }
 
     @Test
@@ -188,6 +192,59 @@ public class BalanceComputationSimpleDcTest {
 
         assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
         assertEquals(2, result.getIterationCount());
+        assertEquals(2, result.getBalancedScalingMap().size());
+        assertEquals(100, result.getBalancedScalingMap().get(areas.get(0)), 1e-3);
+        assertEquals(-100, result.getBalancedScalingMap().get(areas.get(1)), 1e-3);
+        assertEquals(1300, result.getNetPositions().get(areas.get(0)), 1e-3);
+        assertEquals(-1300, result.getNetPositions().get(areas.get(1)), 1e-3);
+        assertTrue(result.getComputationTime() >= 0);
+
+        // Areas are looked up by identity, and maps are read-only
+        assertNull(result.getBalancedScalingMap().get(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.)));
+        assertThrows(UnsupportedOperationException.class, () -> result.getBalancedScalingMap().put(areas.get(0), 0.));
+    }
+
+    @Test
+    public void testAdaptiveRelaxation() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+
+        // Net positions only move by 30% of the scaled power, so that unit steps converge slowly
+        double initialTargetP = generatorFr.getTargetP();
+        LoadFlowProvider loadFlowProviderMock = new LoadFlowProvider() {
+
+            @Override
+            public CompletableFuture<LoadFlowResult> run(Network network, ComputationManager computationManager, String workingVariantId, LoadFlowParameters parameters) {
+                double offset = (generatorFr.getTargetP() - initialTargetP) / 0.6;
+                double netPosition = 1200 + 0.3 * offset;
+                branchFrBe1.getTerminal1().setP(-netPosition / 2);
+                branchFrBe1.getTerminal2().setP(netPosition / 2);
+                branchFrBe2.getTerminal1().setP(-netPosition / 2);
+                branchFrBe2.getTerminal2().setP(netPosition / 2);
+                return CompletableFuture.completedFuture(new LoadFlowResultImpl(true, Collections.emptyMap(), null));
+            }
+
+            @Override
+            public String getName() {
+                return "test load flow";
+            }
+
+            @Override
+            public String getVersion() {
+                return "1.0";
+            }
+        };
+        BalanceComputationImpl balanceComputation = new BalanceComputationImpl(areas, computationManager, new LoadFlow.Runner(loadFlowProviderMock));
+        parameters.setMaxNumberIterations(12);
+
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, simpleNetwork.getVariantManager().getWorkingVariantId(), parameters).join();
+        assertEquals(BalanceComputationResult.Status.FAILED, result.getStatus());
+
+        parameters.setAdaptiveRelaxation(true);
+        result = balanceComputation.run(simpleNetwork, simpleNetwork.getVariantManager().getWorkingVariantId(), parameters).join();
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(10, result.getIterationCount());
     }
 
     @Test
@@ -206,6 +263,28 @@ public class BalanceComputationSimpleDcTest {
 
     }
 
+    @Test
+    public void testAreaThresholdNetPosition() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1250.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunner, computationManager);
+        parameters.setMismatchNorm(BalanceComputationParameters.MismatchNorm.MAX_ABSOLUTE);
+
+        // Targets are inconsistent: both areas keep a 25 MW mismatch
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, simpleNetwork.getVariantManager().getWorkingVariantId(), parameters).join();
+        assertEquals(BalanceComputationResult.Status.FAILED, result.getStatus());
+
+        parameters.setAreaThresholdNetPosition("FR", 30)
+                .setAreaThresholdNetPosition("BE", 30);
+        result = balanceComputation.run(simpleNetwork, simpleNetwork.getVariantManager().getWorkingVariantId(), parameters).join();
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(2, result.getIterationCount());
+        assertEquals(1275, simpleNetwork.getBranch("FRANCE_BELGIUM_1").getTerminal2().getP()
+                + simpleNetwork.getBranch("FRANCE_BELGIUM_2").getTerminal2().getP(), 1.);
+    }
+
     @Test
     public void testDifferentStateId() {
         List<BalanceComputationArea> areas = new ArrayList<>();
@@ -258,4 +337,203 @@ public class BalanceComputationSimpleDcTest {
 
     }
 
+    @Test
+    public void testParallelScaling() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunner, computationManager);
+
+        parameters.setParallelScaling(true);
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(true);
+        simpleNetwork.getVariantManager().setWorkingVariant(initialState);
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, initialState, parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(2, result.getIterationCount());
+        assertEquals(initialState, simpleNetwork.getVariantManager().getWorkingVariantId());
+        assertTrue(simpleNetwork.getVariantManager().isVariantMultiThreadAccessAllowed());
+    }
+
+    @Test
+    public void testParallelScalingWithoutMultiThreadAccess() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunner, computationManager);
+
+        // Areas are scaled one after the other, and variant multi-thread access is left untouched
+        parameters.setParallelScaling(true);
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, initialState, parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(2, result.getIterationCount());
+        assertFalse(simpleNetwork.getVariantManager().isVariantMultiThreadAccessAllowed());
+    }
+
+    @Test
+    public void testParallelScalingWithSharedInjection() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, Scalable.onGenerator("GENERATOR_FR"), -1300.));
+
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunner, computationManager);
+
+        parameters.setParallelScaling(true);
+        String workingVariantId = simpleNetwork.getVariantManager().getWorkingVariantId();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> balanceComputation.run(simpleNetwork, workingVariantId, parameters));
+        assertEquals("Areas FR and BE cannot be scaled in parallel: injection GENERATOR_FR is shared by their scalables", e.getMessage());
+    }
+
+    @Test
+    public void testStaleCopyVariant() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunner, computationManager);
+
+        // Variant left by a crashed computation with the former naming
+        simpleNetwork.getVariantManager().cloneVariant(initialState, initialState + " COPY");
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, initialState, parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(2, result.getIterationCount());
+        assertEquals(new HashSet<>(Arrays.asList(initialState, initialState + " COPY")), new HashSet<>(simpleNetwork.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    public void testConcurrentRuns() {
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(true);
+        // Variants created or removed by the other runs while a loadflow is running
+        List<String> variantChanges = Collections.synchronizedList(new ArrayList<>());
+        LoadFlow.Runner loadFlowRunnerSpy = Mockito.spy(loadFlowRunner);
+        Mockito.doAnswer(invocation -> {
+            Set<String> variantIds = new HashSet<>(simpleNetwork.getVariantManager().getVariantIds());
+            Object loadFlowResult = invocation.callRealMethod();
+            Thread.sleep(5);
+            if (!variantIds.equals(new HashSet<>(simpleNetwork.getVariantManager().getVariantIds()))) {
+                variantChanges.add(invocation.getArgument(1));
+            }
+            return loadFlowResult;
+        }).when(loadFlowRunnerSpy).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+
+        double[] targets = {1300, 1250, 1200, 1150};
+        for (int k = 0; k < targets.length; k++) {
+            simpleNetwork.getVariantManager().cloneVariant(initialState, "Variant" + k);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(targets.length);
+        try {
+            List<CompletableFuture<BalanceComputationResult>> futures = new ArrayList<>();
+            for (int k = 0; k < targets.length; k++) {
+                String variantId = "Variant" + k;
+                List<BalanceComputationArea> areas = Arrays.asList(
+                        new BalanceComputationArea("FR", countryAreaFR, Scalable.onGenerator("GENERATOR_FR"), targets[k]),
+                        new BalanceComputationArea("BE", countryAreaBE, Scalable.onGenerator("GENERATOR_BE"), -targets[k]));
+                BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunnerSpy, computationManager);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    simpleNetwork.getVariantManager().setWorkingVariant(variantId);
+                    return balanceComputation.run(simpleNetwork, variantId, parameters).join();
+                }, executor));
+            }
+            futures.forEach(future -> assertEquals(BalanceComputationResult.Status.SUCCESS, future.join().getStatus()));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(Collections.emptyList(), variantChanges);
+        assertEquals(targets.length + 1, simpleNetwork.getVariantManager().getVariantIds().size());
+        simpleNetwork.getVariantManager().allowVariantMultiThreadAccess(false);
+        for (int k = 0; k < targets.length; k++) {
+            simpleNetwork.getVariantManager().setWorkingVariant("Variant" + k);
+            assertEquals(targets[k], countryAreaFR.create(simpleNetwork).getNetPosition(), parameters.getThresholdNetPosition());
+        }
+    }
+
+    @Test
+    public void testVariantPool() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+
+        try (VariantPool variantPool = new VariantPool(simpleNetwork)) {
+            BalanceComputation balanceComputation = new BalanceComputationImpl(areas, computationManager, loadFlowRunner, variantPool);
+            simpleNetwork.getVariantManager().cloneVariant(initialState, initialVariantNew);
+
+            BalanceComputationResult result = balanceComputation.run(simpleNetwork, initialState, parameters).join();
+            assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+            assertEquals(2, variantPool.getIdleVariantCount());
+
+            result = balanceComputation.run(simpleNetwork, initialVariantNew, parameters).join();
+            assertEquals(BalanceComputationResult.Status.SUCCESS, result.getStatus());
+            assertEquals(2, variantPool.getVariantCount());
+            assertEquals(4, simpleNetwork.getVariantManager().getVariantIds().size());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(initialState, initialVariantNew)), new HashSet<>(simpleNetwork.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    public void testFeasibilityCheckTargetNetPositionsSum() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1400.));
+
+        LoadFlow.Runner loadFlowRunnerMock = Mockito.mock(LoadFlow.Runner.class);
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunnerMock, computationManager);
+
+        parameters.setFeasibilityCheckEnabled(true);
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, initialState, parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.FAILED, result.getStatus());
+        assertEquals(0, result.getIterationCount());
+        Mockito.verifyNoInteractions(loadFlowRunnerMock);
+    }
+
+    @Test
+    public void testFeasibilityCheckTargetNetPositionsSumTolerance() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1310.));
+        List<NetworkArea> networkAreas = Arrays.asList(countryAreaFR.create(simpleNetwork), countryAreaBE.create(simpleNetwork));
+
+        // Sum of squares under 100 MW2 allows a sum of mismatches up to sqrt(2 * 100) MW
+        parameters.setMismatchNorm(BalanceComputationParameters.MismatchNorm.SUM_OF_SQUARES).setThresholdNetPosition(100);
+        assertFalse(FeasibilityCheck.checkTargetNetPositionsSum(simpleNetwork, areas, networkAreas, parameters).isPresent());
+        parameters.setMismatchNorm(BalanceComputationParameters.MismatchNorm.MAX_ABSOLUTE).setThresholdNetPosition(4);
+        assertTrue(FeasibilityCheck.checkTargetNetPositionsSum(simpleNetwork, areas, networkAreas, parameters).isPresent());
+        parameters.setAreaThresholdNetPosition("FR", 6);
+        assertFalse(FeasibilityCheck.checkTargetNetPositionsSum(simpleNetwork, areas, networkAreas, parameters).isPresent());
+    }
+
+    @Test
+    public void testFeasibilityCheckOverlappingAreas() {
+        // Both FR areas can reach their target, even if the sum of the targets is not zero
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 1300.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -1300.));
+        areas.add(new BalanceComputationArea("FR bis", countryAreaFR, scalableFR, 1300.));
+        List<NetworkArea> networkAreas = Arrays.asList(countryAreaFR.create(simpleNetwork), countryAreaBE.create(simpleNetwork), countryAreaFR.create(simpleNetwork));
+
+        assertFalse(FeasibilityCheck.checkTargetNetPositionsSum(simpleNetwork, areas, networkAreas, parameters).isPresent());
+    }
+
+    @Test
+    public void testFeasibilityCheckScalingHeadroom() {
+        List<BalanceComputationArea> areas = new ArrayList<>();
+        areas.add(new BalanceComputationArea("FR", countryAreaFR, scalableFR, 6000.));
+        areas.add(new BalanceComputationArea("BE", countryAreaBE, scalableBE, -6000.));
+
+        BalanceComputation balanceComputation = balanceComputationFactory.create(areas, loadFlowRunner, computationManager);
+
+        parameters.setFeasibilityCheckEnabled(true);
+        BalanceComputationResult result = balanceComputation.run(simpleNetwork, initialState, parameters).join();
+
+        assertEquals(BalanceComputationResult.Status.FAILED, result.getStatus());
+        assertEquals(1, result.getIterationCount());
+        assertEquals(4800, result.getBalancedScalingMap().get(areas.get(0)), 1e-3);
+        assertEquals(initialState, simpleNetwork.getVariantManager().getWorkingVariantId());
+    }
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.balances_adjustment.util.CountryAreaTest;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class LinearBalanceScreeningTest {
+
+    private Network simpleNetwork;
+    private List<BalanceComputationArea> areas;
+    private LoadFlow.Runner loadFlowRunner;
+    private LinearBalanceScreening screening;
+
+    @Before
+    public void setUp() {
+        simpleNetwork = Network.read("testSimpleNetwork.xiidm", CountryAreaTest.class.getResourceAsStream("/testSimpleNetwork.xiidm"));
+
+        Scalable scalableFR = Scalable.proportional(Arrays.asList(60f, 40f),
+                Arrays.asList(Scalable.onGenerator("GENERATOR_FR"), Scalable.onLoad("LOAD_FR")));
+        Scalable scalableBE = Scalable.proportional(Arrays.asList(60f, 40f),
+                Arrays.asList(Scalable.onGenerator("GENERATOR_BE"), Scalable.onLoad("LOAD_BE")));
+        areas = Arrays.asList(
+                new BalanceComputationArea("FR", new CountryAreaFactory(Country.FR), scalableFR, 1300.),
+                new BalanceComputationArea("BE", new CountryAreaFactory(Country.BE), scalableBE, -1300.));
+
+        loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+        screening = new LinearBalanceScreening(areas, LocalComputationManager.getDefault(), loadFlowRunner);
+    }
+
+    @Test
+    public void testScreening() {
+        double initialTargetP = simpleNetwork.getGenerator("GENERATOR_FR").getTargetP();
+
+        AreaNetPositionSensitivities sensitivities = screening.computeSensitivities(simpleNetwork,
+                VariantManagerConstants.INITIAL_VARIANT_ID, new BalanceComputationParameters());
+
+        // Network is not modified
+        assertEquals(Collections.singleton(VariantManagerConstants.INITIAL_VARIANT_ID), simpleNetwork.getVariantManager().getVariantIds());
+        assertEquals(initialTargetP, simpleNetwork.getGenerator("GENERATOR_FR").getTargetP(), 0.);
+
+        assertEquals(1200, sensitivities.getBaseNetPositions()[0], 1e-3);
+        assertEquals(-1200, sensitivities.getBaseNetPositions()[1], 1e-3);
+        assertEquals(-sensitivities.getSensitivity(1, 0), sensitivities.getSensitivity(0, 0), 1e-6);
+
+        List<LinearBalanceScreening.Result> results = LinearBalanceScreening.screen(sensitivities,
+                Arrays.asList(new double[] {1300, -1300}, new double[] {1200, -1200}));
+        assertEquals(2, results.size());
+        assertEquals(100, results.get(0).getOffsets()[0], 1e-3);
+        assertEquals(-100, results.get(0).getOffsets()[1], 1e-3);
+        assertEquals(1300, results.get(0).getPredictedNetPositions()[0], 1e-3);
+        assertEquals(-1300, results.get(0).getPredictedNetPositions()[1], 1e-3);
+        assertEquals(0, results.get(1).getOffsets()[0], 1e-3);
+        assertEquals(0, results.get(1).getOffsets()[1], 1e-3);
+    }
+
+    @Test
+    public void testSensitivitiesCache() {
+        LoadFlow.Runner loadFlowRunnerSpy = Mockito.spy(loadFlowRunner);
+        LinearBalanceScreening screeningWithSpy = new LinearBalanceScreening(areas, LocalComputationManager.getDefault(), loadFlowRunnerSpy);
+        AreaNetPositionSensitivitiesCache cache = new AreaNetPositionSensitivitiesCache(screeningWithSpy, new BalanceComputationParameters(), simpleNetwork);
+
+        AreaNetPositionSensitivities sensitivities = cache.get(VariantManagerConstants.INITIAL_VARIANT_ID);
+        Mockito.verify(loadFlowRunnerSpy, Mockito.times(3)).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+
+        // Same topology: only base net positions are computed
+        simpleNetwork.getLoad("LOAD_FR").setP0(simpleNetwork.getLoad("LOAD_FR").getP0() + 100);
+        AreaNetPositionSensitivities updated = cache.get(VariantManagerConstants.INITIAL_VARIANT_ID);
+        Mockito.verify(loadFlowRunnerSpy, Mockito.times(4)).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+        assertEquals(1, cache.size());
+        assertEquals(sensitivities.getSensitivity(0, 0), updated.getSensitivity(0, 0), 0.);
+        assertNotEquals(sensitivities.getBaseNetPositions()[0], updated.getBaseNetPositions()[0], 1.);
+
+        // Topology change: sensitivities are computed again
+        simpleNetwork.getLine("FRANCE_BELGIUM_1").getTerminal1().disconnect();
+        cache.get(VariantManagerConstants.INITIAL_VARIANT_ID);
+        Mockito.verify(loadFlowRunnerSpy, Mockito.times(7)).run(Mockito.any(), Mockito.anyString(), Mockito.any(), Mockito.any());
+        assertEquals(2, cache.size());
+
+        // Element replaced by another one: the fingerprint has the same size but the cache is invalidated
+        simpleNetwork.getLoad("LOAD_FR").remove();
+        assertEquals(0, cache.size());
+        simpleNetwork.getVoltageLevel("VOLTAGE_LEVEL_FR").newLoad()
+                .setId("LOAD_FR").setBus("BUS_FR").setConnectableBus("BUS_FR").setP0(1800).setQ0(0).add();
+        cache.get(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(1, cache.size());
+
+        cache.invalidate();
+        assertEquals(0, cache.size());
+
+        // Closed cache no longer listens to the network
+        cache.get(VariantManagerConstants.INITIAL_VARIANT_ID);
+        cache.close();
+        simpleNetwork.getLoad("LOAD_FR").remove();
+        assertEquals(1, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongScenarioSize() {
+        AreaNetPositionSensitivities sensitivities = new AreaNetPositionSensitivities(areas, new double[] {0, 0},
+                new double[][] {{1, 0}, {0, 1}});
+        sensitivities.computeOffsets(new double[] {0});
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation;
+
+import com.powsybl.balances_adjustment.util.NetworkTestFactory;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class VariantPoolTest {
+
+    private Network network;
+    private VariantPool variantPool;
+
+    @Before
+    public void setUp() {
+        network = NetworkTestFactory.createNetwork();
+        variantPool = new VariantPool(network);
+    }
+
+    @Test
+    public void testReuse() {
+        String variantId1 = variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID);
+        String variantId2 = variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertNotEquals(variantId1, variantId2);
+        assertEquals(2, variantPool.getVariantCount());
+        assertEquals(0, variantPool.getIdleVariantCount());
+
+        network.getVariantManager().setWorkingVariant(variantId1);
+        network.getVscConverterStation("CFr1A").getTerminal().setP(123);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        variantPool.release(variantId1);
+        assertEquals(1, variantPool.getIdleVariantCount());
+
+        // Released variant is overwritten with the state of the source variant
+        assertEquals(variantId1, variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID));
+        assertEquals(2, variantPool.getVariantCount());
+        network.getVariantManager().setWorkingVariant(variantId1);
+        assertNotEquals(123, network.getVscConverterStation("CFr1A").getTerminal().getP(), 0.);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+
+        variantPool.release(variantId1);
+        variantPool.release(variantId2);
+        assertEquals(3, network.getVariantManager().getVariantIds().size());
+        PowsyblException e = assertThrows(PowsyblException.class, () -> variantPool.release(variantId2));
+        assertEquals("Variant " + variantId2 + " is not acquired from this pool", e.getMessage());
+    }
+
+    @Test
+    public void testWarmUp() {
+        variantPool.warmUp(2);
+        assertEquals(2, variantPool.getIdleVariantCount());
+        assertEquals(3, network.getVariantManager().getVariantIds().size());
+
+        // Warmed up variants are acquired without creating any variant
+        String variantId1 = variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID);
+        variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(3, network.getVariantManager().getVariantIds().size());
+        variantPool.release(variantId1);
+        variantPool.warmUp(2);
+        assertEquals(2, variantPool.getVariantCount());
+        assertEquals(1, variantPool.getIdleVariantCount());
+    }
+
+    @Test
+    public void testClose() {
+        String variantId1 = variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID);
+        String variantId2 = variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID);
+        variantPool.release(variantId1);
+
+        variantPool.close();
+        assertEquals(new HashSet<>(Arrays.asList(VariantManagerConstants.INITIAL_VARIANT_ID, variantId2)), new HashSet<>(network.getVariantManager().getVariantIds()));
+        variantPool.release(variantId2);
+        assertEquals(Collections.singleton(VariantManagerConstants.INITIAL_VARIANT_ID), new HashSet<>(network.getVariantManager().getVariantIds()));
+        assertEquals(0, variantPool.getVariantCount());
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> variantPool.acquire(VariantManagerConstants.INITIAL_VARIANT_ID));
+        assertEquals("Variant pool is closed", e.getMessage());
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -34,6 +35,10 @@ public class JsonBalanceComputationParametersTest extends AbstractConverterTest
         BalanceComputationParameters.load();
         assertEquals(BalanceComputationParameters.DEFAULT_MAX_NUMBER_ITERATIONS, parameters.getMaxNumberIterations());
         assertEquals(BalanceComputationParameters.DEFAULT_THRESHOLD_NET_POSITION, parameters.getThresholdNetPosition(), .01);
+        assertEquals(BalanceComputationParameters.DEFAULT_PARALLEL_SCALING, parameters.isParallelScaling());
+        assertEquals(BalanceComputationParameters.DEFAULT_REUSE_INITIAL_FLOWS, parameters.isReuseInitialFlows());
+        assertEquals(BalanceComputationParameters.DEFAULT_FEASIBILITY_CHECK_ENABLED, parameters.isFeasibilityCheckEnabled());
+        assertEquals(BalanceComputationParameters.DEFAULT_ADAPTIVE_RELAXATION, parameters.isAdaptiveRelaxation());
     }
 
     @Test
@@ -47,6 +52,12 @@ public class JsonBalanceComputationParametersTest extends AbstractConverterTest
         BalanceComputationParameters parameters = JsonBalanceComputationParameters.read(getClass().getResourceAsStream("/balanceComputationParameters.json"));
         assertEquals(11, parameters.getMaxNumberIterations());
         assertEquals(2, parameters.getThresholdNetPosition(), .01);
+        assertTrue(parameters.isParallelScaling());
+        assertTrue(parameters.isReuseInitialFlows());
+        assertTrue(parameters.isFeasibilityCheckEnabled());
+        assertTrue(parameters.isAdaptiveRelaxation());
+        assertEquals(BalanceComputationParameters.MismatchNorm.MAX_ABSOLUTE, parameters.getMismatchNorm());
+        assertEquals(Map.of("FR", 0.5, "BE", 1.5), parameters.getAreaThresholdNetPositions());
         LoadFlowParameters actualLoadflowParams =  parameters.getLoadFlowParameters();
         assertEquals("DC_VALUES", actualLoadflowParams.getVoltageInitMode().toString());
         assertTrue(actualLoadflowParams.isTransformerVoltageControlOn());
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.*;
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.balances_adjustment.util.CountryAreaTest;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BalanceComputationCheckpointTest {
+
+    private static final int SCENARIO_COUNT = 6;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Network simpleNetwork;
+    private BalanceComputationParameters parameters;
+    private BalanceComputationBatch batch;
+
+    @Before
+    public void setUp() {
+        simpleNetwork = Network.read("testSimpleNetwork.xiidm", CountryAreaTest.class.getResourceAsStream("/testSimpleNetwork.xiidm"));
+        parameters = new BalanceComputationParameters();
+        parameters.getLoadFlowParameters().setDc(true);
+        batch = new BalanceComputationBatch(LocalComputationManager.getDefault(), new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory())));
+    }
+
+    private Iterator<BalanceComputationBatch.Scenario> createScenarios() {
+        List<BalanceComputationBatch.Scenario> scenarios = new ArrayList<>();
+        for (int k = 0; k < SCENARIO_COUNT; k++) {
+            String variantId = "Step" + k;
+            if (!simpleNetwork.getVariantManager().getVariantIds().contains(variantId)) {
+                simpleNetwork.getVariantManager().cloneVariant("InitialState", variantId);
+            }
+            Scalable scalableFR = Scalable.proportional(Arrays.asList(60f, 40f), Arrays.asList(Scalable.onGenerator("GENERATOR_FR"), Scalable.onLoad("LOAD_FR")));
+            Scalable scalableBE = Scalable.proportional(Arrays.asList(60f, 40f), Arrays.asList(Scalable.onGenerator("GENERATOR_BE"), Scalable.onLoad("LOAD_BE")));
+            scenarios.add(new BalanceComputationBatch.Scenario(Arrays.asList(
+                    new BalanceComputationArea("FR", new CountryAreaFactory(Country.FR), scalableFR, 1300. - 10 * k),
+                    new BalanceComputationArea("BE", new CountryAreaFactory(Country.BE), scalableBE, -1300. + 10 * k)), variantId));
+        }
+        return scenarios.iterator();
+    }
+
+    @Test
+    public void testResume() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("checkpoint.bin");
+
+        // Batch crashing after the third step
+        try (BalanceComputationCheckpoint checkpoint = BalanceComputationCheckpoint.open(file)) {
+            PowsyblException e = assertThrows(PowsyblException.class, () -> batch.run(simpleNetwork, createScenarios(), parameters, (index, scenario, result) -> {
+                checkpoint.accept(index, scenario, result);
+                if (index == 2) {
+                    throw new PowsyblException("Node failure");
+                }
+            }));
+            assertEquals("Node failure", e.getMessage());
+        }
+        // Last record partially written
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 3, 0}), channel.size());
+        }
+
+        try (BalanceComputationCheckpoint checkpoint = BalanceComputationCheckpoint.open(file)) {
+            assertEquals(3, checkpoint.getCompletedCount());
+            assertTrue(checkpoint.isCompleted(2));
+            assertFalse(checkpoint.isCompleted(3));
+            assertEquals(80, checkpoint.getLastOffsets().get("FR"), 1e-3);
+            assertEquals(-80, checkpoint.getLastOffsets().get("BE"), 1e-3);
+
+            assertEquals(3, batch.run(simpleNetwork, createScenarios(), parameters, checkpoint, checkpoint::isCompleted));
+            assertEquals(SCENARIO_COUNT, checkpoint.getCompletedCount());
+            assertEquals(50, checkpoint.getLastOffsets().get("FR"), 1e-3);
+        }
+
+        List<Integer> indexes = new ArrayList<>();
+        assertEquals(SCENARIO_COUNT, BinaryBalanceComputationResultReader.read(file, resultRecord -> indexes.add(resultRecord.getScenarioIndex())));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), indexes);
+    }
+
+    @Test
+    public void testNewCheckpoint() {
+        Path file = folder.getRoot().toPath().resolve("checkpoint.bin");
+        try (BalanceComputationCheckpoint checkpoint = BalanceComputationCheckpoint.open(file)) {
+            assertEquals(0, checkpoint.getCompletedCount());
+            assertTrue(checkpoint.getLastOffsets().isEmpty());
+        }
+        assertEquals(0, BinaryBalanceComputationResultReader.read(file, resultRecord -> { }));
+    }
+
+    @Test
+    public void testTruncatedHeader() throws IOException {
+        // Batch died while writing the header
+        Path file = folder.getRoot().toPath().resolve("checkpoint.bin");
+        Files.write(file, new byte[] {0x42, 0x43, 0x52});
+        try (BalanceComputationCheckpoint checkpoint = BalanceComputationCheckpoint.open(file)) {
+            assertEquals(0, checkpoint.getCompletedCount());
+            assertEquals(SCENARIO_COUNT, batch.run(simpleNetwork, createScenarios(), parameters, checkpoint, checkpoint::isCompleted));
+        }
+        assertEquals(SCENARIO_COUNT, BinaryBalanceComputationResultReader.read(file, resultRecord -> { }));
+    }
+}
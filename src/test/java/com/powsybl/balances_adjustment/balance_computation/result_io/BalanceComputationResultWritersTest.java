@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.balance_computation.result_io;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationArea;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationBatch;
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationResult;
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BalanceComputationResultWritersTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<BalanceComputationArea> areas;
+
+    @Before
+    public void setUp() {
+        areas = Arrays.asList(new BalanceComputationArea("FR", new CountryAreaFactory(Country.FR), Scalable.onLoad("LOAD_FR"), 1300),
+                new BalanceComputationArea("BE;NL", new CountryAreaFactory(Country.BE), Scalable.onLoad("LOAD_BE"), -1300));
+    }
+
+    private void writeResults(AbstractBalanceComputationResultWriter writer, int count) {
+        try (writer) {
+            for (int k = 0; k < count; k++) {
+                BalanceComputationBatch.Scenario scenario = new BalanceComputationBatch.Scenario(areas, "Hour " + k);
+                writer.accept(k, scenario, new BalanceComputationResult(BalanceComputationResult.Status.SUCCESS, 2, areas,
+                        new double[] {k, -k}, new double[] {1300 + k, -1300 - k}));
+            }
+            BalanceComputationBatch.Scenario failed = new BalanceComputationBatch.Scenario(areas, "Failed");
+            writer.accept(count, failed, new BalanceComputationResult(BalanceComputationResult.Status.FAILED, 0));
+        }
+    }
+
+    @Test
+    public void testBinary() {
+        Path file = folder.getRoot().toPath().resolve("results.bin");
+        // More records than the writer buffer can hold
+        int count = 5000;
+        writeResults(new BinaryBalanceComputationResultWriter(file), count);
+
+        List<BalanceComputationResultRecord> records = new ArrayList<>();
+        assertEquals(count + 1, BinaryBalanceComputationResultReader.read(file, records::add));
+        BalanceComputationResultRecord last = records.get(count - 1);
+        assertEquals(count - 1, last.getScenarioIndex());
+        assertEquals("Hour " + (count - 1), last.getWorkingStateId());
+        assertEquals(BalanceComputationResult.Status.SUCCESS, last.getStatus());
+        assertEquals(2, last.getIterationCount());
+        assertEquals(-1, last.getComputationTime());
+        assertEquals(Arrays.asList("FR", "BE;NL"), last.getAreaNames());
+        assertEquals(count - 1, last.getOffset(0), 0);
+        assertEquals(-1300 - count + 1, last.getNetPosition(1), 0);
+
+        BalanceComputationResultRecord failed = records.get(count);
+        assertEquals(BalanceComputationResult.Status.FAILED, failed.getStatus());
+        assertTrue(Double.isNaN(failed.getOffset(0)));
+        assertTrue(Double.isNaN(failed.getNetPosition(1)));
+    }
+
+    @Test
+    public void testBinaryTruncated() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("results.bin");
+        writeResults(new BinaryBalanceComputationResultWriter(file), 3);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        assertEquals(3, BinaryBalanceComputationResultReader.read(file, resultRecord -> { }));
+
+        Files.writeString(file, "not a results file");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> BinaryBalanceComputationResultReader.read(file, resultRecord -> { }));
+        assertEquals("File " + file + " is not a balance computation results file", e.getMessage());
+    }
+
+    @Test
+    public void testBinaryInvalidStatus() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("results.bin");
+        writeResults(new BinaryBalanceComputationResultWriter(file), 1);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // Status of the first record, after the header, the scenario index and the working state id
+            channel.write(ByteBuffer.wrap(new byte[] {42}), BinaryBalanceComputationResultReader.HEADER_SIZE + Integer.BYTES + Short.BYTES + "Hour 0".length());
+        }
+        PowsyblException e = assertThrows(PowsyblException.class, () -> BinaryBalanceComputationResultReader.read(file, resultRecord -> { }));
+        assertEquals("Invalid balance computation result status: 42", e.getMessage());
+    }
+
+    @Test
+    public void testCsv() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("results.csv");
+        writeResults(new CsvBalanceComputationResultWriter(file), 2);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(Arrays.asList(
+                "scenarioIndex;workingStateId;status;iterationCount;computationTime;area;offset;netPosition",
+                "0;Hour 0;SUCCESS;2;-1;FR;0.0;1300.0",
+                "0;Hour 0;SUCCESS;2;-1;\"BE;NL\";0.0;-1300.0",
+                "1;Hour 1;SUCCESS;2;-1;FR;1.0;1301.0",
+                "1;Hour 1;SUCCESS;2;-1;\"BE;NL\";-1.0;-1301.0",
+                "2;Failed;FAILED;0;-1;FR;NaN;NaN",
+                "2;Failed;FAILED;0;-1;\"BE;NL\";NaN;NaN"), lines);
+    }
+}
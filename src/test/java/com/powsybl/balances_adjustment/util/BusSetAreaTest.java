@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class BusSetAreaTest {
+
+    private static List<String> getBusIds(NetworkArea area) {
+        return area.getContainedBusViewBuses().stream().map(Bus::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGetNetPosition() {
+        Network network = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        BusNumbering numbering = BusNumbering.of(network);
+        for (Country country : new Country[] {Country.FR, Country.BE, Country.NL, Country.DE}) {
+            NetworkArea countryArea = new CountryAreaFactory(country).create(network);
+            BusSetArea busSetArea = new BusSetArea(numbering, getBusIds(countryArea));
+            assertEquals(countryArea.getNetPosition(), busSetArea.getNetPosition(), 1e-3);
+            assertEquals(busSetArea.getNetPosition(), NetworkAreaUtil.getNetPositions(Collections.singletonList(busSetArea))[0], 1e-6);
+            assertEquals(countryArea.getContainedBusViewBuses().size(), busSetArea.getContainedBusViewBuses().size());
+        }
+    }
+
+    @Test
+    public void testSpecialDevices() {
+        Network network = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));
+        NetworkArea voltageLevelsArea = new VoltageLevelsAreaFactory("VOLTAGE_LEVEL_FR_225KV", "VOLTAGE_LEVEL_FR_400KV").create(network);
+        NetworkArea busSetArea = new BusSetAreaFactory(getBusIds(voltageLevelsArea)).create(network);
+        assertEquals(100, busSetArea.getNetPosition(), 1e-3);
+    }
+
+    @Test
+    public void testUnknownBus() {
+        Network network = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        BusSetAreaFactory factory = new BusSetAreaFactory("UNKNOWN");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> factory.create(network));
+        assertTrue(e.getMessage().startsWith("Bus UNKNOWN is not a bus view bus"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.cgmes.extensions.CgmesControlArea;
+import com.powsybl.cgmes.extensions.CgmesControlAreas;
+import com.powsybl.cgmes.extensions.CgmesControlAreasAdder;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class ControlAreaTest {
+
+    private Network network;
+
+    @Before
+    public void setUp() {
+        network = Network.read("testSimpleNetwork.xiidm", getClass().getResourceAsStream("/testSimpleNetwork.xiidm"));
+        network.getLine("FRANCE_BELGIUM_1").getTerminal2().setP(500);
+        network.getLine("FRANCE_BELGIUM_2").getTerminal2().setP(700);
+        network.getLine("FRANCE_BELGIUM_1").getTerminal1().setP(-500);
+        network.getLine("FRANCE_BELGIUM_2").getTerminal1().setP(-700);
+
+        network.newExtension(CgmesControlAreasAdder.class).add();
+        CgmesControlArea controlArea = network.getExtension(CgmesControlAreas.class).newCgmesControlArea()
+                .setId("FR_CA")
+                .setName("France")
+                .setEnergyIdentificationCodeEic("10YFR-RTE------C")
+                .setNetInterchange(1300)
+                .add();
+        controlArea.add(network.getLine("FRANCE_BELGIUM_1").getTerminal2());
+        controlArea.add(network.getLine("FRANCE_BELGIUM_2").getTerminal2());
+    }
+
+    @Test
+    public void testGetNetPosition() {
+        ControlArea area = new ControlAreaFactory("FR_CA").create(network);
+        assertEquals("FR_CA", area.getId());
+        assertEquals(1300, area.getNetInterchange(), 0.);
+        assertEquals(1200, area.getNetPosition(), 1e-6);
+        assertEquals(2, area.getLeavingFlows().size());
+        assertEquals(new CountryAreaFactory(Country.FR).create(network).getNetPosition(), area.getNetPosition(), 1e-6);
+
+        network.getLine("FRANCE_BELGIUM_1").getTerminal2().disconnect();
+        assertEquals(700, area.getNetPosition(), 1e-6);
+    }
+
+    @Test
+    public void testBoundary() {
+        Terminal terminal = Mockito.mock(Terminal.class);
+        Mockito.when(terminal.isConnected()).thenReturn(true);
+        DanglingLine danglingLine = Mockito.mock(DanglingLine.class);
+        Mockito.when(danglingLine.getTerminal()).thenReturn(terminal);
+        Boundary boundary = Mockito.mock(Boundary.class);
+        Mockito.when(boundary.getP()).thenReturn(-150.);
+        Mockito.doReturn(danglingLine).when(boundary).getConnectable();
+        CgmesControlArea controlArea = Mockito.mock(CgmesControlArea.class);
+        Mockito.when(controlArea.getBoundaries()).thenReturn(Collections.singleton(boundary));
+
+        assertEquals(150, new ControlArea(controlArea).getNetPosition(), 1e-6);
+        BorderElement borderElement = new ControlArea(controlArea).getBorderElements().get(0);
+        assertSame(danglingLine, borderElement.getElement());
+        assertSame(boundary, borderElement.getBoundary().orElseThrow());
+        assertEquals(150, borderElement.getLeavingFlow(), 1e-6);
+        Mockito.when(terminal.isConnected()).thenReturn(false);
+        assertEquals(0, new ControlArea(controlArea).getNetPosition(), 1e-6);
+    }
+
+    @Test
+    public void testUnknownControlArea() {
+        ControlAreaFactory factory = new ControlAreaFactory("UNKNOWN");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> factory.create(network));
+        assertEquals("CGMES control area UNKNOWN not found in network " + network.getId(), e.getMessage());
+    }
+}
@@ -10,6 +10,7 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -70,6 +71,79 @@ public class CountryAreaTest {
         assertEquals(testNetwork2.getHvdcLine("hvdcLineFrEs").getConverterStation2().getTerminal().getP(), countryAreaES.create(testNetwork2).getNetPosition(), 1e-3);
     }
 
+    @Test
+    public void testLazyBusesCache() {
+        Network network = Mockito.spy(testNetwork1);
+        NetworkArea area = countryAreaFR.create(network);
+        area.getNetPosition();
+        Mockito.verify(network, Mockito.never()).getBusView();
+
+        assertEquals(3, area.getContainedBusViewBuses().size());
+        assertEquals(3, area.getContainedBusViewBuses().size());
+        Mockito.verify(network, Mockito.times(1)).getBusView();
+    }
+
+    private void assertSameAsRebuilt(NetworkArea area, NetworkAreaFactory factory, Network network) {
+        NetworkArea rebuilt = factory.create(network);
+        assertEquals(rebuilt.getLeavingFlows().size(), area.getLeavingFlows().size());
+        assertEquals(rebuilt.getNetPosition(), area.getNetPosition(), 1e-6);
+        assertEquals(rebuilt.getContainedBusViewBuses().size(), area.getContainedBusViewBuses().size());
+    }
+
+    @Test
+    public void testMaintenance() {
+        CountryArea area = countryAreaFR.create(testNetwork1);
+        area.startMaintenance();
+        assertEquals(2, area.getLeavingFlows().size());
+
+        testNetwork1.getLine("FFR2AA1  DDE3AA1  1").remove();
+        assertEquals(1, area.getLeavingFlows().size());
+        assertSameAsRebuilt(area, countryAreaFR, testNetwork1);
+
+        testNetwork1.newLine()
+                .setId("FFR1AA1  BBE1AA1  1")
+                .setVoltageLevel1("FFR1AA1").setBus1("FFR1AA1 ").setConnectableBus1("FFR1AA1 ")
+                .setVoltageLevel2("BBE1AA1").setBus2("BBE1AA1 ").setConnectableBus2("BBE1AA1 ")
+                .setR(0).setX(10).setG1(0).setB1(0).setG2(0).setB2(0)
+                .add();
+        assertEquals(2, area.getLeavingFlows().size());
+        assertSameAsRebuilt(area, countryAreaFR, testNetwork1);
+
+        testNetwork1.getSubstation("BBE2AA").setCountry(Country.FR);
+        assertSameAsRebuilt(area, countryAreaFR, testNetwork1);
+
+        // Changes are no longer taken into account once maintenance is stopped
+        area.stopMaintenance();
+        int borderCount = area.getLeavingFlows().size();
+        testNetwork1.getLine("FFR1AA1  BBE1AA1  1").remove();
+        assertEquals(borderCount, area.getLeavingFlows().size());
+    }
+
+    @Test
+    public void testBorderElements() {
+        CountryArea area = countryAreaFR.create(testNetwork1);
+        List<BorderElement> borderElements = area.getBorderElements();
+        assertEquals(2, borderElements.size());
+        assertEquals(area.getNetPosition(), borderElements.stream().mapToDouble(BorderElement::getLeavingFlow).sum(), 1e-3);
+        for (BorderElement borderElement : borderElements) {
+            Line line = (Line) borderElement.getElement();
+            assertEquals(List.of(line.getTerminal1(), line.getTerminal2()), borderElement.getTerminals());
+            for (int i = 0; i < 2; i++) {
+                boolean inFrance = borderElement.getTerminals().get(i).getVoltageLevel().getSubstation().flatMap(Substation::getCountry).orElseThrow() == Country.FR;
+                assertEquals(inFrance, borderElement.isInArea(i));
+                assertEquals(inFrance ? 0.5 : -0.5, borderElement.getWeight(i), 0);
+            }
+            assertFalse(borderElement.getBoundary().isPresent());
+        }
+
+        BorderElement hvdcBorder = countryAreaES.create(testNetwork2).getBorderElements().get(0);
+        HvdcLine hvdcLine = testNetwork2.getHvdcLine("hvdcLineFrEs");
+        assertSame(hvdcLine, hvdcBorder.getElement());
+        assertEquals(List.of(hvdcLine.getConverterStation1().getTerminal(), hvdcLine.getConverterStation2().getTerminal()), hvdcBorder.getTerminals());
+        assertEquals(-0.5, hvdcBorder.getWeight(0), 0);
+        assertEquals(0.5, hvdcBorder.getWeight(1), 0);
+    }
+
     @Test
     public void testSpecialDevices() {
         Network network = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));
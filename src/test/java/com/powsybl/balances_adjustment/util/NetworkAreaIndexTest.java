@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class NetworkAreaIndexTest {
+
+    private Network testNetwork;
+
+    @Before
+    public void setUp() {
+        testNetwork = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+    }
+
+    @Test
+    public void testIndex() {
+        List<IndexedNetworkAreaFactory> factories = Arrays.asList(new CountryAreaFactory(Country.FR), new CountryAreaFactory(Country.BE),
+                new VoltageLevelsAreaFactory("DDE1AA1", "DDE2AA1"));
+        NetworkAreaIndex index = NetworkAreaIndex.build(testNetwork, factories);
+
+        assertEquals(3, index.getAreaCount());
+        assertEquals(0, index.getAreaId(testNetwork.getVoltageLevel("FFR1AA1")));
+        assertEquals(1, index.getAreaId(testNetwork.getVoltageLevel("BBE1AA1")));
+        assertEquals(2, index.getAreaId(testNetwork.getVoltageLevel("DDE2AA1")));
+        assertEquals(NetworkAreaIndex.NO_AREA, index.getAreaId(testNetwork.getVoltageLevel("DDE3AA1")));
+        assertEquals(0, index.getAreaId(testNetwork.getBranch("FFR1AA1  FFR3AA1  1").getTerminal1()));
+        testNetwork.getBusView().getBuses().forEach(bus -> assertEquals(index.getAreaId(bus.getVoltageLevel()), index.getAreaId(bus)));
+
+        // Indexed areas are equivalent to the areas created from their definition
+        for (int i = 0; i < factories.size(); i++) {
+            NetworkArea indexedArea = factories.get(i).create(index, i);
+            NetworkArea area = factories.get(i).create(testNetwork);
+            assertEquals(area.getNetPosition(), indexedArea.getNetPosition(), 1e-6);
+            assertEquals(new HashSet<>(area.getContainedBusViewBuses()), new HashSet<>(indexedArea.getContainedBusViewBuses()));
+            assertEquals(new HashSet<>(area.getContainedLoads()), new HashSet<>(indexedArea.getContainedLoads()));
+            assertSame(index.getLoads(i), indexedArea.getContainedLoads());
+        }
+    }
+
+    @Test
+    public void testOverlappingAreas() {
+        List<IndexedNetworkAreaFactory> factories = Arrays.asList(new CountryAreaFactory(Country.FR), new VoltageLevelsAreaFactory("FFR1AA1"));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> NetworkAreaIndex.build(testNetwork, factories));
+        assertEquals("Areas 0 and 1 cannot be indexed: voltage level FFR1AA1 belongs to both", e.getMessage());
+        assertFalse(NetworkAreaIndex.tryBuild(testNetwork, factories).isPresent());
+
+        // Overlapping areas are still created, without index
+        List<NetworkArea> areas = NetworkAreaUtil.createNetworkAreas(testNetwork, factories);
+        assertEquals(factories.get(0).create(testNetwork).getNetPosition(), areas.get(0).getNetPosition(), 1e-6);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.balances_adjustment.util;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
+ */
+public class NetworkAreaTemplateTest {
+
+    private Network network;
+    private Network otherNetwork;
+
+    @Before
+    public void setUp() {
+        network = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        otherNetwork = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+    }
+
+    @Test
+    public void testBind() {
+        for (NetworkAreaFactory factory : new NetworkAreaFactory[] {new CountryAreaFactory(Country.FR), new CountryAreaFactory(Country.NL),
+            new VoltageLevelsAreaFactory("FFR1AA1", "DDE3AA1")}) {
+            NetworkAreaTemplate template = NetworkAreaTemplate.compile(network, factory);
+            NetworkArea expected = factory.create(otherNetwork);
+            NetworkArea bound = template.toFactory().create(otherNetwork);
+            assertEquals(expected.getNetPosition(), bound.getNetPosition(), 1e-6);
+            assertEquals(expected.getLeavingFlows().size(), bound.getLeavingFlows().size());
+            assertEquals(expected.getBorderElements().stream().map(borderElement -> borderElement.getElement().getId()).collect(Collectors.toList()),
+                    bound.getBorderElements().stream().map(borderElement -> borderElement.getElement().getId()).collect(Collectors.toList()));
+            assertEquals(expected.getContainedBusViewBuses().size(), bound.getContainedBusViewBuses().size());
+        }
+
+        NetworkArea countryArea = new CountryAreaFactory(Country.FR).create(network);
+        BusSetArea busSetArea = new BusSetArea(network, countryArea.getContainedBusViewBuses().stream().map(Bus::getId).collect(Collectors.toList()));
+        NetworkArea bound = NetworkAreaTemplate.compile(busSetArea).bind(otherNetwork);
+        assertEquals(busSetArea.getNetPosition(), bound.getNetPosition(), 1e-6);
+        assertEquals(busSetArea.getBorderElements().size(), bound.getBorderElements().size());
+        assertEquals(busSetArea.getContainedBusViewBuses().size(), bound.getContainedBusViewBuses().size());
+    }
+
+    @Test
+    public void testSpecialDevices() {
+        Network specialDevices = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));
+        Network otherSpecialDevices = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));
+        NetworkAreaTemplate hvdcTemplate = NetworkAreaTemplate.compile(specialDevices, new VoltageLevelsAreaFactory("VOLTAGE_LEVEL_FR_225KV", "VOLTAGE_LEVEL_FR_400KV"));
+        assertEquals(100, hvdcTemplate.bind(otherSpecialDevices).getNetPosition(), 1e-3);
+        NetworkAreaTemplate countryTemplate = NetworkAreaTemplate.compile(specialDevices, new CountryAreaFactory(Country.ES));
+        assertEquals(-100, countryTemplate.bind(otherSpecialDevices).getNetPosition(), 1e-3);
+    }
+
+    @Test
+    public void testMissingBorderElement() {
+        NetworkAreaTemplate template = NetworkAreaTemplate.compile(network, new VoltageLevelsAreaFactory("FFR1AA1", "DDE3AA1"));
+        otherNetwork.getLine("FFR1AA1  FFR3AA1  1").remove();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> template.bind(otherNetwork));
+        assertEquals("Border element FFR1AA1  FFR3AA1  1 not found in network " + otherNetwork.getId(), e.getMessage());
+    }
+
+    @Test
+    public void testUnknownVoltageLevel() {
+        // Unknown voltage levels are ignored, as by the voltage levels area itself
+        NetworkAreaFactory factory = new VoltageLevelsAreaFactory("FFR1AA1", "DDE3AA1", "UNKNOWN");
+        NetworkAreaTemplate template = NetworkAreaTemplate.compile(network, factory);
+        NetworkArea bound = template.bind(otherNetwork);
+        NetworkArea expected = factory.create(otherNetwork);
+        assertEquals(expected.getNetPosition(), bound.getNetPosition(), 1e-6);
+        assertEquals(expected.getContainedBusViewBuses().size(), bound.getContainedBusViewBuses().size());
+    }
+}
@@ -11,6 +11,9 @@ import com.powsybl.iidm.network.Network;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -38,4 +41,15 @@ public class NetworkAreaTest {
         assertEquals(countryAreaFR.create(testNetwork1).getNetPosition(), voltageLevelsArea1.create(testNetwork1).getNetPosition(), 1e-3);
     }
 
+    @Test
+    public void testGetNetPositions() {
+        List<NetworkArea> areas = Arrays.asList(countryAreaFR.create(testNetwork1), voltageLevelsArea1.create(testNetwork1),
+                new CountryAreaFactory(Country.BE).create(testNetwork1));
+        double[] netPositions = NetworkAreaUtil.getNetPositions(areas);
+        assertEquals(3, netPositions.length);
+        for (int i = 0; i < areas.size(); i++) {
+            assertEquals(areas.get(i).getNetPosition(), netPositions[i], 1e-3);
+        }
+    }
+
 }
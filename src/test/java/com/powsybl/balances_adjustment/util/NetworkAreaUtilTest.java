@@ -8,14 +8,20 @@ package com.powsybl.balances_adjustment.util;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Injection;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static org.junit.Assert.*;
 
@@ -37,6 +43,22 @@ public class NetworkAreaUtilTest {
         assertEquals(10, scalable.scale(network, 10), 0.0);
     }
 
+    @Test
+    public void testConformLoadsScalableFollowsP0() {
+        Network network = EurostagTutorialExample1Factory.create();
+        NetworkAreaFactory factory = new VoltageLevelsAreaFactory(network.getVoltageLevelStream().map(Identifiable::getId).toArray(String[]::new));
+        NetworkArea area = factory.create(network);
+        assertEquals(1, NetworkAreaUtil.createConformLoadScalable(area).filterInjections(network).size());
+
+        // Loads are discovered once, but their selection and percentages follow the changes of p0
+        network.getLoad("LOAD").setP0(0.0);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> NetworkAreaUtil.createConformLoadScalable(area));
+        assertEquals("All loads' active power flows is null", e.getMessage());
+        network.getLoad("LOAD").setP0(-10.0);
+        e = assertThrows(PowsyblException.class, () -> NetworkAreaUtil.createConformLoadScalable(area));
+        assertEquals("There is no load in this area", e.getMessage());
+    }
+
     @Test
     public void testNoLoadScalables() {
         Network network = EurostagTutorialExample1Factory.create();
@@ -63,4 +85,63 @@ public class NetworkAreaUtilTest {
             assertEquals("All loads' active power flows is null", e.getMessage());
         }
     }
+
+    @Test
+    public void testMultiVariantNetPositions() {
+        Network network = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        List<NetworkAreaFactory> factories = Arrays.asList(new CountryAreaFactory(Country.FR), new CountryAreaFactory(Country.BE),
+                new VoltageLevelsAreaFactory("FFR1AA1", "DDE3AA1"),
+                new VoltageLevelsAreaFactory("FFR1AA1", "DDE3AA1").setNetPositionEvaluation(VoltageLevelsArea.NetPositionEvaluation.INJECTIONS));
+        List<NetworkArea> areas = NetworkAreaUtil.createNetworkAreas(network, factories);
+        network.getVariantManager().cloneVariant(network.getVariantManager().getWorkingVariantId(), "other");
+        network.getVariantManager().setWorkingVariant("other");
+        network.getLineStream().forEach(line -> line.getTerminal1().setP(line.getTerminal1().getP() + 10));
+        network.getLine("FFR2AA1  DDE3AA1  1").getTerminal2().disconnect();
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+
+        List<String> variantIds = Arrays.asList(VariantManagerConstants.INITIAL_VARIANT_ID, "other");
+        double[][] netPositions = NetworkAreaUtil.getNetPositions(network, areas, variantIds);
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        for (int v = 0; v < variantIds.size(); v++) {
+            network.getVariantManager().setWorkingVariant(variantIds.get(v));
+            for (int i = 0; i < areas.size(); i++) {
+                assertEquals(factories.get(i).create(network).getNetPosition(), netPositions[v][i], 1e-6);
+            }
+        }
+        assertNotEquals(netPositions[0][0], netPositions[1][0], 1e-3);
+        // Border flows of the other variant are not consistent with its injections
+        assertNotEquals(netPositions[1][2], netPositions[1][3], 1e-3);
+
+        // Net positions of all the areas at once, evaluated from the injections for the last area
+        network.getVariantManager().setWorkingVariant("other");
+        assertArrayEquals(netPositions[1], NetworkAreaUtil.getNetPositions(areas), 1e-6);
+
+        // Variants evaluated in parallel
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        double[][] parallelNetPositions = NetworkAreaUtil.getNetPositions(network, areas, variantIds);
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        for (int v = 0; v < variantIds.size(); v++) {
+            assertArrayEquals(netPositions[v], parallelNetPositions[v], 1e-6);
+        }
+    }
+
+    @Test
+    public void testNetPositionsWithMultiThreadAccess() throws InterruptedException {
+        Network network = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        List<NetworkArea> areas = NetworkAreaUtil.createNetworkAreas(network, Arrays.asList(new CountryAreaFactory(Country.FR), new CountryAreaFactory(Country.BE)));
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "other");
+        network.getVariantManager().setWorkingVariant("other");
+        network.getLineStream().forEach(line -> line.getTerminal1().setP(line.getTerminal1().getP() + 10));
+        double[] expected = NetworkAreaUtil.getNetPositions(areas);
+
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        network.getVariantManager().setWorkingVariant("other");
+        assertArrayEquals(expected, NetworkAreaUtil.getNetPositions(network, areas), 1e-6);
+
+        // Threads of the common pool are left without working variant
+        ForkJoinTask<String> task = ForkJoinPool.commonPool().submit(() -> network.getVariantManager().getWorkingVariantId());
+        ExecutionException e = assertThrows(ExecutionException.class, task::get);
+        assertTrue(e.getCause() instanceof PowsyblException);
+    }
 }
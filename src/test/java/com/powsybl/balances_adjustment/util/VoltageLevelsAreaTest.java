@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -42,6 +43,50 @@ public class VoltageLevelsAreaTest {
         assertEquals(flows.stream().mapToDouble(f -> f).sum(), voltageLevelsArea.create(testNetwork).getNetPosition(), 1e-3);
     }
 
+    @Test
+    public void testNetPositionFromInjections() {
+        double expected = voltageLevelsArea.create(testNetwork).getNetPosition();
+        for (VoltageLevelsArea.NetPositionEvaluation evaluation : VoltageLevelsArea.NetPositionEvaluation.values()) {
+            voltageLevelsArea.setNetPositionEvaluation(evaluation);
+            assertEquals(expected, voltageLevelsArea.create(testNetwork).getNetPosition(), 1e-3);
+        }
+
+        Network network = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));
+        NetworkAreaFactory testHvdcFactory = new VoltageLevelsAreaFactory("VOLTAGE_LEVEL_FR_225KV", "VOLTAGE_LEVEL_FR_400KV")
+                .setNetPositionEvaluation(VoltageLevelsArea.NetPositionEvaluation.INJECTIONS);
+        assertEquals(100, testHvdcFactory.create(network).getNetPosition(), 1e-3);
+    }
+
+    @Test
+    public void testTwoWindingsTransformerNotBorder() {
+        Network network = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));
+
+        // Neither evaluation sees the transformer crossing the border of the area as a border element
+        VoltageLevelsAreaFactory factory = new VoltageLevelsAreaFactory("VOLTAGE_LEVEL_ES_225KV");
+        VoltageLevelsArea area = factory.create(network);
+        assertTrue(area.getBorderElements().stream().noneMatch(borderElement -> borderElement.getElement().getId().equals("TWT_ES")));
+        assertEquals(-50, area.getNetPosition(), 1e-3);
+        // Its flow is counted as an injection of the area
+        assertEquals(-50, factory.setNetPositionEvaluation(VoltageLevelsArea.NetPositionEvaluation.INJECTIONS).create(network).getNetPosition(), 1e-3);
+    }
+
+    @Test
+    public void testMaintenance() {
+        VoltageLevelsArea area = voltageLevelsArea.create(testNetwork);
+        area.startMaintenance();
+        int borderCount = area.getLeavingFlows().size();
+
+        testNetwork.getLine("FFR1AA1  FFR3AA1  1").remove();
+        assertEquals(borderCount - 1, area.getLeavingFlows().size());
+        assertEquals(voltageLevelsArea.create(testNetwork).getNetPosition(), area.getNetPosition(), 1e-6);
+
+        // Loads are invalidated together with the buses
+        int loadCount = area.getContainedLoads().size();
+        area.getContainedLoads().get(0).remove();
+        assertEquals(loadCount - 1, area.getContainedLoads().size());
+        area.stopMaintenance();
+    }
+
     @Test
     public void testSpecialDevices() {
         Network network = Network.read("testCaseSpecialDevices.xiidm", getClass().getResourceAsStream("/testCaseSpecialDevices.xiidm"));